@@ -0,0 +1,124 @@
+package com.firefly.domain.people.benchmarks;
+
+import com.firefly.domain.people.interfaces.dto.commands.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static com.firefly.domain.people.core.orchestrator.GlobalConstants.TYPE_NATURAL_PERSON;
+
+/**
+ * Registration commands shaped like partner-import records.
+ *
+ * Enum-like fields use values of the customer-mgmt SDK enums so that the mapper benchmarks take
+ * the same {@code fromValue} paths as production traffic.
+ */
+public final class BenchmarkFixtures {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Builds a registration command.
+     *
+     * @param partyKind {@code INDIVIDUAL} or {@code ORGANIZATION}
+     * @param itemsPerSection the number of items of every list section
+     * @param taxId the tax id of the person or entity
+     * @return the command
+     */
+    public static RegisterCustomerCommand registerCustomer(String partyKind, int itemsPerSection, String taxId) {
+        boolean natural = TYPE_NATURAL_PERSON.equals(partyKind);
+        return new RegisterCustomerCommand(
+                party(partyKind),
+                natural ? naturalPerson(taxId) : null,
+                natural ? null : legalPerson(taxId),
+                items(itemsPerSection, i -> statusEntry()),
+                natural ? pep() : null,
+                items(itemsPerSection, BenchmarkFixtures::identityDocument),
+                items(itemsPerSection, BenchmarkFixtures::address),
+                items(itemsPerSection, BenchmarkFixtures::email),
+                items(itemsPerSection, BenchmarkFixtures::phone),
+                items(itemsPerSection, BenchmarkFixtures::economicActivity),
+                natural ? items(itemsPerSection, BenchmarkFixtures::consent) : List.of(),
+                items(itemsPerSection, BenchmarkFixtures::provider),
+                items(itemsPerSection, BenchmarkFixtures::relationship),
+                items(itemsPerSection, BenchmarkFixtures::groupMembership));
+    }
+
+    public static RegisterPartyCommand party(String partyKind) {
+        return new RegisterPartyCommand(partyKind, "en", "PARTNER_IMPORT");
+    }
+
+    public static RegisterNaturalPersonCommand naturalPerson(String taxId) {
+        return new RegisterNaturalPersonCommand(null, null, "Mr", "John", "Michael", "Doe", "Smith",
+                LocalDate.of(1985, 5, 15), "Madrid", 724L, 724L, "MALE", "SINGLE", taxId, "RESIDENT",
+                "Engineer", new BigDecimal("4200.00"), null, NOW, NOW);
+    }
+
+    public static RegisterLegalPersonCommand legalPerson(String taxId) {
+        return new RegisterLegalPersonCommand(null, null, "Acme Holdings S.L.", "Acme", "B-123456", taxId, 3L,
+                LocalDate.of(2001, 3, 1), "Wholesale", 250L, new BigDecimal("1000000.00"), "https://acme.example",
+                724L);
+    }
+
+    public static RegisterPartyStatusEntryCommand statusEntry() {
+        return new RegisterPartyStatusEntryCommand(null, "ACTIVE", "Imported", NOW, null);
+    }
+
+    public static RegisterPepCommand pep() {
+        return new RegisterPepCommand(null, false, null, null, null, null, null, null);
+    }
+
+    public static RegisterIdentityDocumentCommand identityDocument(int i) {
+        return new RegisterIdentityDocumentCommand(null, 1L, 2L, "X" + (1000000 + i), 724L, NOW,
+                NOW.plusYears(10), "Police", true, null);
+    }
+
+    public static RegisterAddressCommand address(int i) {
+        return new RegisterAddressCommand(null, null, "HOME", i + " Main Street", null, "Madrid", "Madrid", "28001",
+                724L, i == 0, 40.4168, -3.7038);
+    }
+
+    public static RegisterEmailCommand email(int i) {
+        return new RegisterEmailCommand(null, "john.doe+" + i + "@example.com", "PERSONAL", i == 0, false);
+    }
+
+    public static RegisterPhoneCommand phone(int i) {
+        return new RegisterPhoneCommand(null, "+3460000" + (1000 + i), "MOBILE", i == 0, false, null);
+    }
+
+    public static RegisterEconomicActivityLinkCommand economicActivity(int i) {
+        return new RegisterEconomicActivityLinkCommand(null, 100L + i, new BigDecimal("50000.00"), "EUR", NOW,
+                null, i == 0);
+    }
+
+    public static RegisterConsentCommand consent(int i) {
+        return new RegisterConsentCommand(null, 1L + i, true, NOW, null, "WEB");
+    }
+
+    public static RegisterPartyProviderCommand provider(int i) {
+        return new RegisterPartyProviderCommand(null, "Provider" + i, "EXT-" + i, "ACTIVE", NOW);
+    }
+
+    public static RegisterPartyRelationshipCommand relationship(int i) {
+        return new RegisterPartyRelationshipCommand(null, 5000L + i, 1L, NOW, null, true, null);
+    }
+
+    public static RegisterPartyGroupMembershipCommand groupMembership(int i) {
+        return new RegisterPartyGroupMembershipCommand(null, 10L + i, true, NOW, null, null);
+    }
+
+    private static <T> List<T> items(int count, IntFunction<T> item) {
+        List<T> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(item.apply(i));
+        }
+        return items;
+    }
+}
@@ -0,0 +1,124 @@
+package com.firefly.domain.people.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.customer.sdk.invoker.ApiClient;
+import com.firefly.core.customer.sdk.model.*;
+import com.firefly.domain.people.core.integration.CustomerMgmtCodecs;
+import com.firefly.domain.people.core.integration.mapper.CustomersMapper;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.firefly.domain.people.core.orchestrator.GlobalConstants.TYPE_NATURAL_PERSON;
+
+/**
+ * Cost of encoding customer-mgmt request bodies into pooled Netty buffers and decoding response
+ * bodies from them, with the SDK's default mapper ({@code DEFAULT}, the setup before
+ * {@link CustomerMgmtCodecs}) and with the shared mapper of {@link CustomerMgmtCodecs}
+ * ({@code TUNED}). Run with {@code -prof gc} to compare allocations as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CustomerMgmtCodecBenchmark {
+
+    private static final ResolvableType PARTY = ResolvableType.forClass(PartyDTO.class);
+    private static final ResolvableType NATURAL_PERSON = ResolvableType.forClass(NaturalPersonDTO.class);
+    private static final ResolvableType ADDRESS = ResolvableType.forClass(AddressDTO.class);
+
+    public enum Codec {
+        DEFAULT,
+        TUNED
+    }
+
+    @Param({"DEFAULT", "TUNED"})
+    private Codec codec;
+
+    private final NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+
+    private Jackson2JsonEncoder encoder;
+    private Jackson2JsonDecoder decoder;
+
+    private PartyDTO party;
+    private NaturalPersonDTO naturalPerson;
+    private AddressDTO address;
+    private byte[] partyJson;
+    private byte[] naturalPersonJson;
+    private byte[] addressJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = codec == Codec.TUNED
+                ? CustomerMgmtCodecs.objectMapper()
+                : ApiClient.createDefaultObjectMapper(ApiClient.createDefaultDateFormat());
+        encoder = new Jackson2JsonEncoder(objectMapper, MediaType.APPLICATION_JSON);
+        decoder = new Jackson2JsonDecoder(objectMapper, MediaType.APPLICATION_JSON);
+
+        CustomersMapper mapper = Mappers.getMapper(CustomersMapper.class);
+        party = mapper.toPartyDTO(BenchmarkFixtures.party(TYPE_NATURAL_PERSON));
+        party.setPartyId(1L);
+        naturalPerson = mapper.toNaturalPersonDTO(BenchmarkFixtures.naturalPerson("12345678Z"));
+        naturalPerson.setPartyId(1L);
+        address = mapper.toAddressDTO(BenchmarkFixtures.address(0));
+        address.setPartyId(1L);
+
+        partyJson = objectMapper.writeValueAsBytes(party);
+        naturalPersonJson = objectMapper.writeValueAsBytes(naturalPerson);
+        addressJson = objectMapper.writeValueAsBytes(address);
+    }
+
+    @Benchmark
+    public int encodeParty() {
+        return encode(party, PARTY);
+    }
+
+    @Benchmark
+    public int encodeNaturalPerson() {
+        return encode(naturalPerson, NATURAL_PERSON);
+    }
+
+    @Benchmark
+    public int encodeAddress() {
+        return encode(address, ADDRESS);
+    }
+
+    @Benchmark
+    public Object decodeParty() {
+        return decode(partyJson, PARTY);
+    }
+
+    @Benchmark
+    public Object decodeNaturalPerson() {
+        return decode(naturalPersonJson, NATURAL_PERSON);
+    }
+
+    @Benchmark
+    public Object decodeAddress() {
+        return decode(addressJson, ADDRESS);
+    }
+
+    private int encode(Object value, ResolvableType type) {
+        DataBuffer buffer = encoder.encodeValue(value, bufferFactory, type, MediaType.APPLICATION_JSON, null);
+        int size = buffer.readableByteCount();
+        DataBufferUtils.release(buffer);
+        return size;
+    }
+
+    private Object decode(byte[] json, ResolvableType type) {
+        DataBuffer buffer = bufferFactory.allocateBuffer(json.length).write(json);
+        // the decoder releases the buffer
+        return decoder.decode(buffer, type, MediaType.APPLICATION_JSON, null);
+    }
+}
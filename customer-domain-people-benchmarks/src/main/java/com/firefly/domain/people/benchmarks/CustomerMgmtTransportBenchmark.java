@@ -0,0 +1,90 @@
+package com.firefly.domain.people.benchmarks;
+
+import com.firefly.core.customer.sdk.api.PartiesApi;
+import com.firefly.core.customer.sdk.model.PartyDTO;
+import com.firefly.domain.people.benchmarks.stub.CustomerMgmtStubServer;
+import com.firefly.domain.people.benchmarks.stub.StubOptions;
+import com.firefly.domain.people.core.integration.ClientFactory;
+import com.firefly.domain.people.core.integration.client.CustomerMgmtBalancer;
+import com.firefly.domain.people.core.integration.client.CustomerMgmtGuard;
+import com.firefly.domain.people.core.integration.client.DownstreamMetrics;
+import com.firefly.domain.people.core.integration.client.DownstreamRetry;
+import com.firefly.domain.people.core.integration.properties.CustomerMgmtProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import reactor.core.publisher.Flux;
+import reactor.netty.DisposableServer;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the customer-mgmt transport built by {@link ClientFactory} over HTTP/1.1 and
+ * over HTTP/2 (h2c), at the create concurrency of many registrations fanning out at once.
+ *
+ * Every invocation sends {@code concurrency} creates at the same time to an in-process
+ * {@link CustomerMgmtStubServer} answering after 5 ms. The {@code requests} counter gives the
+ * request rate; the number of connections the stub accepted is printed at the end of each trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CustomerMgmtTransportBenchmark {
+
+    @Param({"HTTP11", "H2C"})
+    public CustomerMgmtProperties.Protocol protocol;
+
+    @Param({"64", "512"})
+    public int concurrency;
+
+    private DisposableServer server;
+    private CustomerMgmtStubServer stub;
+    private PartiesApi partiesApi;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stub = new CustomerMgmtStubServer(StubOptions.parse(
+                "--port=0", "--latency=fixed:5ms", "--protocol=" + (protocol == CustomerMgmtProperties.Protocol.H2C ? "h2c" : "http11")));
+        server = stub.start();
+
+        CustomerMgmtProperties properties = new CustomerMgmtProperties();
+        properties.setBasePath("http://localhost:" + server.port());
+        properties.setProtocol(protocol);
+        properties.getPool().setMaxConnections(1_000);
+        properties.getPool().setPendingAcquireMaxCount(-1);
+        // measure the transport alone, without load shedding
+        properties.getLimiter().setEnabled(false);
+        properties.getCircuitBreaker().setEnabled(false);
+        properties.getRetry().setEnabled(false);
+        ClientFactory clientFactory = new ClientFactory(properties,
+                new CustomerMgmtGuard(properties, new SimpleMeterRegistry()),
+                new DownstreamRetry(properties, new SimpleMeterRegistry()),
+                new CustomerMgmtBalancer(properties, new SimpleMeterRegistry()),
+                new DownstreamMetrics(new SimpleMeterRegistry()));
+        partiesApi = new PartiesApi(clientFactory.createCustomersClient());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%n%s at concurrency %d: %d connections%n", protocol, concurrency, stub.connectionCount());
+        server.disposeNow();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public long requests;
+    }
+
+    @Benchmark
+    public void createParties(Counters counters) {
+        Long created = Flux.range(0, concurrency)
+                .flatMap(i -> partiesApi.createPartyWithHttpInfo(new PartyDTO(), UUID.randomUUID().toString()), concurrency)
+                .count()
+                .block();
+        counters.requests += created;
+    }
+}
@@ -0,0 +1,186 @@
+package com.firefly.domain.people.benchmarks;
+
+import com.firefly.core.customer.sdk.model.*;
+import com.firefly.domain.people.core.integration.mapper.CustomersMapper;
+import com.firefly.domain.people.interfaces.dto.commands.*;
+import com.firefly.domain.people.interfaces.dto.query.PartyView;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.firefly.domain.people.core.orchestrator.GlobalConstants.TYPE_NATURAL_PERSON;
+
+/**
+ * Cost of every {@link CustomersMapper} method, including the {@code @Named} enum mappers that
+ * run on each command sent downstream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CustomersMapperBenchmark {
+
+    private CustomersMapper mapper;
+
+    private RegisterPartyCommand party;
+    private RegisterNaturalPersonCommand naturalPerson;
+    private RegisterLegalPersonCommand legalPerson;
+    private RegisterPartyStatusEntryCommand statusEntry;
+    private RegisterPepCommand pep;
+    private RegisterIdentityDocumentCommand identityDocument;
+    private RegisterAddressCommand address;
+    private RegisterEmailCommand email;
+    private RegisterPhoneCommand phone;
+    private RegisterEconomicActivityLinkCommand economicActivity;
+    private RegisterConsentCommand consent;
+    private RegisterPartyProviderCommand provider;
+    private RegisterPartyRelationshipCommand relationship;
+    private RegisterPartyGroupMembershipCommand groupMembership;
+    private PartyDTO partyDTO;
+
+    @Setup
+    public void setUp() {
+        mapper = Mappers.getMapper(CustomersMapper.class);
+        party = BenchmarkFixtures.party(TYPE_NATURAL_PERSON);
+        naturalPerson = BenchmarkFixtures.naturalPerson("12345678Z");
+        legalPerson = BenchmarkFixtures.legalPerson("B12345678");
+        statusEntry = BenchmarkFixtures.statusEntry();
+        pep = BenchmarkFixtures.pep();
+        identityDocument = BenchmarkFixtures.identityDocument(0);
+        address = BenchmarkFixtures.address(0);
+        email = BenchmarkFixtures.email(0);
+        phone = BenchmarkFixtures.phone(0);
+        economicActivity = BenchmarkFixtures.economicActivity(0);
+        consent = BenchmarkFixtures.consent(0);
+        provider = BenchmarkFixtures.provider(0);
+        relationship = BenchmarkFixtures.relationship(0);
+        groupMembership = BenchmarkFixtures.groupMembership(0);
+        partyDTO = mapper.toPartyDTO(party);
+        partyDTO.setPartyId(1L);
+    }
+
+    @Benchmark
+    public PartyDTO toPartyDTO() {
+        return mapper.toPartyDTO(party);
+    }
+
+    @Benchmark
+    public NaturalPersonDTO toNaturalPersonDTO() {
+        return mapper.toNaturalPersonDTO(naturalPerson);
+    }
+
+    @Benchmark
+    public LegalEntityDTO toLegalPersonDTO() {
+        return mapper.toLegalPersonDTO(legalPerson);
+    }
+
+    @Benchmark
+    public PartyStatusDTO toPartyStatusDTO() {
+        return mapper.toPartyStatusDTO(statusEntry);
+    }
+
+    @Benchmark
+    public PoliticallyExposedPersonDTO toPepDTO() {
+        return mapper.toPepDTO(pep);
+    }
+
+    @Benchmark
+    public IdentityDocumentDTO toIdentityDocumentDTO() {
+        return mapper.toIdentityDocumentDTO(identityDocument);
+    }
+
+    @Benchmark
+    public AddressDTO toAddressDTO() {
+        return mapper.toAddressDTO(address);
+    }
+
+    @Benchmark
+    public EmailContactDTO toEmailDTO() {
+        return mapper.toEmailDTO(email);
+    }
+
+    @Benchmark
+    public PhoneContactDTO toPhoneDTO() {
+        return mapper.toPhoneDTO(phone);
+    }
+
+    @Benchmark
+    public PartyEconomicActivityDTO toPartyEconomicActivityDTO() {
+        return mapper.toPartyEconomicActivityDTO(economicActivity);
+    }
+
+    @Benchmark
+    public ConsentDTO toConsentDTO() {
+        return mapper.toConsentDTO(consent);
+    }
+
+    @Benchmark
+    public PartyProviderDTO toPartyProviderDTO() {
+        return mapper.toPartyProviderDTO(provider);
+    }
+
+    @Benchmark
+    public PartyRelationshipDTO toPartyRelationshipDTO() {
+        return mapper.toPartyRelationshipDTO(relationship);
+    }
+
+    @Benchmark
+    public PartyGroupMembershipDTO toPartyGroupMembershipDTO() {
+        return mapper.toPartyGroupMembershipDTO(groupMembership);
+    }
+
+    @Benchmark
+    public PartyView toPartyView() {
+        return mapper.toPartyView(partyDTO);
+    }
+
+    // ===== @Named enum mappers =====
+
+    @Benchmark
+    public PartyDTO.PartyKindEnum mapPartyType() {
+        return mapper.mapPartyType(party.partyKind());
+    }
+
+    @Benchmark
+    public NaturalPersonDTO.GenderEnum mapGender() {
+        return mapper.mapGender(naturalPerson.gender());
+    }
+
+    @Benchmark
+    public NaturalPersonDTO.MaritalStatusEnum mapMaritalStatus() {
+        return mapper.mapMaritalStatus(naturalPerson.maritalStatus());
+    }
+
+    @Benchmark
+    public NaturalPersonDTO.ResidencyStatusEnum mapResidencyStatus() {
+        return mapper.mapResidencyStatus(naturalPerson.residencyStatus());
+    }
+
+    @Benchmark
+    public PartyStatusDTO.StatusCodeEnum mapStatusCode() {
+        return mapper.mapStatusCode(statusEntry.statusCode());
+    }
+
+    @Benchmark
+    public AddressDTO.AddressKindEnum mapAddressType() {
+        return mapper.mapAddressType(address.addressKind());
+    }
+
+    @Benchmark
+    public EmailContactDTO.EmailKindEnum mapEmailType() {
+        return mapper.mapEmailType(email.emailKind());
+    }
+
+    @Benchmark
+    public PhoneContactDTO.PhoneKindEnum mapPhoneType() {
+        return mapper.mapPhoneType(phone.phoneKind());
+    }
+
+    @Benchmark
+    public String mapPartyKindToString() {
+        return mapper.mapPartyKindToString(partyDTO.getPartyKind());
+    }
+}
@@ -0,0 +1,245 @@
+package com.firefly.domain.people.benchmarks;
+
+import com.firefly.core.customer.sdk.model.*;
+import com.firefly.domain.people.core.integration.client.CustomersClient;
+import com.firefly.domain.people.interfaces.dto.commands.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * CustomersClient answering every call immediately from memory, so that a benchmark measures
+ * the saga machinery of this service and nothing of the network or the downstream service.
+ */
+public class InMemoryCustomersClient implements CustomersClient {
+
+    private final AtomicLong ids = new AtomicLong();
+
+    @Override
+    public Mono<ResponseEntity<PartyDTO>> createParty(RegisterPartyCommand registerPartyCommand) {
+        return created(PartyDTO::new, dto -> {
+            dto.setPartyId(ids.incrementAndGet());
+            dto.setPartyKind(PartyDTO.PartyKindEnum.fromValue(registerPartyCommand.partyKind()));
+        });
+    }
+
+    @Override
+    public Mono<ResponseEntity<Void>> deleteParty(Long id) {
+        return deleted();
+    }
+
+    @Override
+    public Mono<ResponseEntity<PartyDTO>> getParty(Long id) {
+        return ok(PartyDTO::new, dto -> {
+            dto.setPartyId(id);
+            dto.setPartyKind(PartyDTO.PartyKindEnum.INDIVIDUAL);
+        });
+    }
+
+    @Override
+    public Mono<ResponseEntity<NaturalPersonDTO>> createNaturalPerson(Long partyId, RegisterNaturalPersonCommand naturalPersonCommand) {
+        return created(NaturalPersonDTO::new, dto -> dto.setNaturalPersonId(ids.incrementAndGet()));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Void>> deleteNaturalPerson(Long partyId, Long id) {
+        return deleted();
+    }
+
+    @Override
+    public Mono<ResponseEntity<NaturalPersonDTO>> getNaturalPerson(Long id) {
+        return ok(NaturalPersonDTO::new, dto -> dto.setNaturalPersonId(id));
+    }
+
+    @Override
+    public Mono<ResponseEntity<NaturalPersonDTO>> updateNaturalPerson(Long partyId, Long naturalPersonId, String newName) {
+        return ok(NaturalPersonDTO::new, dto -> dto.setNaturalPersonId(naturalPersonId));
+    }
+
+    @Override
+    public Mono<ResponseEntity<LegalEntityDTO>> createLegalPerson(Long partyId, RegisterLegalPersonCommand legalPersonCommand) {
+        return created(LegalEntityDTO::new, dto -> dto.setLegalEntityId(ids.incrementAndGet()));
+    }
+
+    @Override
+    public Mono<ResponseEntity<LegalEntityDTO>> getLegalEntity(Long id) {
+        return ok(LegalEntityDTO::new, dto -> dto.setLegalEntityId(id));
+    }
+
+    @Override
+    public Mono<ResponseEntity<LegalEntityDTO>> updateLegalEntity(Long partyId, Long legalEntityId, String newName) {
+        return ok(LegalEntityDTO::new, dto -> dto.setLegalEntityId(legalEntityId));
+    }
+
+    @Override
+    public Mono<ResponseEntity<PartyStatusDTO>> createPartyStatus(Long partyId, RegisterPartyStatusEntryCommand statusEntryCommand) {
+        return created(PartyStatusDTO::new, dto -> dto.setPartyStatusId(ids.incrementAndGet()));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Void>> deletePartyStatus(Long partyId, Long partyStatusId) {
+        return deleted();
+    }
+
+    @Override
+    public Mono<ResponseEntity<PartyStatusDTO>> updatePartyStatus(Long partyId, RegisterPartyStatusEntryCommand statusEntryCommand) {
+        return ok(PartyStatusDTO::new, dto -> dto.setPartyStatusId(ids.incrementAndGet()));
+    }
+
+    @Override
+    public Mono<ResponseEntity<PoliticallyExposedPersonDTO>> createPep(Long partyId, RegisterPepCommand pepCommand) {
+        return created(PoliticallyExposedPersonDTO::new, dto -> dto.setPepId(ids.incrementAndGet()));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Void>> deleteLegalEntity(Long partyId, Long id) {
+        return deleted();
+    }
+
+    @Override
+    public Mono<ResponseEntity<Void>> deletePep(Long partyId, Long pepId) {
+        return deleted();
+    }
+
+    @Override
+    public Mono<ResponseEntity<IdentityDocumentDTO>> createIdentityDocument(Long partyId, RegisterIdentityDocumentCommand identityDocumentCommand) {
+        return created(IdentityDocumentDTO::new, dto -> dto.setIdentityDocumentId(ids.incrementAndGet()));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Void>> deleteIdentityDocument(Long partyId, Long identityDocumentId) {
+        return deleted();
+    }
+
+    @Override
+    public Mono<ResponseEntity<AddressDTO>> createAddress(Long partyId, RegisterAddressCommand addressCommand) {
+        return created(AddressDTO::new, dto -> dto.setAddressId(ids.incrementAndGet()));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Void>> deleteAddress(Long partyId, Long addressId) {
+        return deleted();
+    }
+
+    @Override
+    public Mono<ResponseEntity<AddressDTO>> updateAddress(Long partyId, Long addressId, RegisterAddressCommand addressCommand) {
+        return ok(AddressDTO::new, dto -> dto.setAddressId(addressId));
+    }
+
+    @Override
+    public Mono<ResponseEntity<EmailContactDTO>> createEmail(Long partyId, RegisterEmailCommand emailCommand) {
+        return created(EmailContactDTO::new, dto -> dto.setEmailContactId(ids.incrementAndGet()));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Void>> deleteEmail(Long partyId, Long emailId) {
+        return deleted();
+    }
+
+    @Override
+    public Mono<ResponseEntity<EmailContactDTO>> updateEmail(Long partyId, Long emailId, RegisterEmailCommand emailCommand) {
+        return ok(EmailContactDTO::new, dto -> dto.setEmailContactId(emailId));
+    }
+
+    @Override
+    public Mono<ResponseEntity<List<EmailContactDTO>>> getEmails(Long partyId) {
+        return Mono.fromSupplier(() -> {
+            EmailContactDTO dto = new EmailContactDTO();
+            dto.setEmailContactId(ids.incrementAndGet());
+            dto.setPartyId(partyId);
+            dto.setEmail("customer@example.com");
+            dto.setIsPrimary(true);
+            return ResponseEntity.ok(List.of(dto));
+        });
+    }
+
+    @Override
+    public Mono<ResponseEntity<PhoneContactDTO>> createPhone(Long partyId, RegisterPhoneCommand phoneCommand) {
+        return created(PhoneContactDTO::new, dto -> dto.setPhoneContactId(ids.incrementAndGet()));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Void>> deletePhone(Long partyId, Long phoneId) {
+        return deleted();
+    }
+
+    @Override
+    public Mono<ResponseEntity<PhoneContactDTO>> updatePhone(Long partyId, Long phoneId, RegisterPhoneCommand phoneCommand) {
+        return ok(PhoneContactDTO::new, dto -> dto.setPhoneContactId(phoneId));
+    }
+
+    @Override
+    public Mono<ResponseEntity<PartyEconomicActivityDTO>> createPartyEconomicActivity(Long partyId, RegisterEconomicActivityLinkCommand economicActivityLinkCommand) {
+        return created(PartyEconomicActivityDTO::new, dto -> dto.setPartyEconomicActivityId(ids.incrementAndGet()));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Void>> deletePartyEconomicActivity(Long partyId, Long partyEconomicActivityId) {
+        return deleted();
+    }
+
+    @Override
+    public Mono<ResponseEntity<ConsentDTO>> createConsent(Long partyId, RegisterConsentCommand consentCommand) {
+        return created(ConsentDTO::new, dto -> dto.setConsentId(ids.incrementAndGet()));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Void>> deleteConsent(Long partyId, Long consentId) {
+        return deleted();
+    }
+
+    @Override
+    public Mono<ResponseEntity<PartyProviderDTO>> createPartyProvider(Long partyId, RegisterPartyProviderCommand partyProviderCommand) {
+        return created(PartyProviderDTO::new, dto -> dto.setPartyProviderId(ids.incrementAndGet()));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Void>> deletePartyProvider(Long partyId, Long partyProviderId) {
+        return deleted();
+    }
+
+    @Override
+    public Mono<ResponseEntity<PartyRelationshipDTO>> createPartyRelationshipWithHttpInfo(Long partyId, RegisterPartyRelationshipCommand partyRelationshipCommand) {
+        return created(PartyRelationshipDTO::new, dto -> dto.setPartyRelationshipId(ids.incrementAndGet()));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Void>> deletePartyRelationshipWithHttpInfo(Long partyId, Long partyRelationshipId) {
+        return deleted();
+    }
+
+    @Override
+    public Mono<ResponseEntity<PartyGroupMembershipDTO>> createPartyGroupMembershipWithHttpInfo(Long partyId, RegisterPartyGroupMembershipCommand partyGroupMembershipCommand) {
+        return created(PartyGroupMembershipDTO::new, dto -> dto.setPartyGroupMembershipId(ids.incrementAndGet()));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Void>> deletePartyGroupMembershipWithHttpInfo(Long partyId, Long partyGroupMembershipId) {
+        return deleted();
+    }
+
+    private static <T> Mono<ResponseEntity<T>> created(Supplier<T> body, Consumer<T> ids) {
+        return Mono.fromSupplier(() -> {
+            T dto = body.get();
+            ids.accept(dto);
+            return ResponseEntity.status(HttpStatus.CREATED).body(dto);
+        });
+    }
+
+    private static <T> Mono<ResponseEntity<T>> ok(Supplier<T> body, Consumer<T> ids) {
+        return Mono.fromSupplier(() -> {
+            T dto = body.get();
+            ids.accept(dto);
+            return ResponseEntity.ok(dto);
+        });
+    }
+
+    private static Mono<ResponseEntity<Void>> deleted() {
+        return Mono.just(ResponseEntity.noContent().build());
+    }
+}
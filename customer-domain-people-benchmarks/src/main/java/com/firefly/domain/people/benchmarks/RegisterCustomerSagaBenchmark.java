@@ -0,0 +1,60 @@
+package com.firefly.domain.people.benchmarks;
+
+import com.firefly.domain.people.core.service.CommandService;
+import com.firefly.transactionalengine.core.SagaResult;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * End-to-end cost of a registration saga through {@link CommandService#register}, with every
+ * downstream call answered from memory: tax-id reservation, step dispatch, fan-out limiting,
+ * idempotency keys and metrics.
+ *
+ * Every invocation registers a new tax id, otherwise the tax-id index would reject it; building
+ * the command is part of the measurement but is negligible next to the saga.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegisterCustomerSagaBenchmark {
+
+    @Param({"INDIVIDUAL", "ORGANIZATION"})
+    public String partyKind;
+
+    @Param({"1", "10"})
+    public int itemsPerSection;
+
+    private final AtomicLong taxIds = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private CommandService commandService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SagaBenchmarkApplication.start();
+        commandService = context.getBean(CommandService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public SagaResult register() {
+        String taxId = "T" + taxIds.incrementAndGet();
+        return commandService.register(BenchmarkFixtures.registerCustomer(partyKind, itemsPerSection, taxId)).block();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public SagaResult registerConcurrently() {
+        return register();
+    }
+}
@@ -0,0 +1,64 @@
+package com.firefly.domain.people.benchmarks;
+
+import com.firefly.domain.people.core.orchestrator.customer.RegisterCustomerPlan;
+import com.firefly.domain.people.core.orchestrator.support.SagaIdempotencyKeys;
+import com.firefly.domain.people.interfaces.dto.commands.RegisterCustomerCommand;
+import com.firefly.transactionalengine.core.SagaContext;
+import com.firefly.transactionalengine.engine.StepInputs;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of preparing a registration saga in {@code CommandServiceImpl.register}: looking up the
+ * {@link RegisterCustomerPlan} of the command, assembling the {@link StepInputs} of the planned
+ * steps and indexing the items for idempotency keys.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RegisterInputsBenchmark {
+
+    @Param({"INDIVIDUAL", "ORGANIZATION"})
+    public String partyKind;
+
+    @Param({"1", "10"})
+    public int itemsPerSection;
+
+    private RegisterCustomerCommand command;
+
+    @Setup
+    public void setUp() {
+        command = BenchmarkFixtures.registerCustomer(partyKind, itemsPerSection, "12345678Z");
+    }
+
+    @Benchmark
+    public RegisterCustomerPlan lookUpPlan() {
+        return RegisterCustomerPlan.of(command);
+    }
+
+    @Benchmark
+    public StepInputs buildStepInputs() {
+        return RegisterCustomerPlan.of(command).inputs(command);
+    }
+
+    @Benchmark
+    public SagaContext indexItems() {
+        SagaContext ctx = new SagaContext();
+        SagaIdempotencyKeys.indexItems(ctx,
+                command.statusHistory(),
+                command.identityDocuments(),
+                command.addresses(),
+                command.emails(),
+                command.phones(),
+                command.economicActivities(),
+                command.consents(),
+                command.providers(),
+                command.relationships(),
+                command.groupMemberships());
+        return ctx;
+    }
+}
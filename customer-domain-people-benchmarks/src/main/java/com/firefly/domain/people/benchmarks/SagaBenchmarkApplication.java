@@ -0,0 +1,47 @@
+package com.firefly.domain.people.benchmarks;
+
+import com.firefly.domain.people.core.integration.client.CustomersClient;
+import com.firefly.domain.people.core.integration.client.impl.CustomersClientImpl;
+import com.firefly.transactionalengine.annotations.EnableTransactionalEngine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+
+/**
+ * Application context of the core module wired to {@link InMemoryCustomersClient} instead of the
+ * customer-mgmt SDK. The saga journal is disabled so that only in-memory work is measured.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@EnableTransactionalEngine
+@ComponentScan(basePackages = "com.firefly.domain.people.core",
+        excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = CustomersClientImpl.class))
+public class SagaBenchmarkApplication {
+
+    @Bean
+    public CustomersClient customersClient() {
+        return new InMemoryCustomersClient();
+    }
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    public static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(SagaBenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties("saga-configuration.journal.enabled=false",
+                        "api-configuration.common-platform.customer-mgmt.base-path=http://localhost")
+                .properties(properties)
+                .run();
+    }
+}
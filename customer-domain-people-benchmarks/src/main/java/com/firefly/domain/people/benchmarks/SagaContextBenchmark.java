@@ -0,0 +1,70 @@
+package com.firefly.domain.people.benchmarks;
+
+import com.firefly.domain.people.core.orchestrator.customer.CustomerSagaContext;
+import com.firefly.domain.people.core.orchestrator.customer.PartyKind;
+import com.firefly.transactionalengine.core.SagaContext;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.firefly.domain.people.core.orchestrator.GlobalConstants.*;
+
+/**
+ * Cost of the context reads of one registration step: the string-keyed variable lookups with
+ * casts the orchestrators used to do, against the fields of {@link CustomerSagaContext}, both
+ * from a context created as such and from a plain {@link SagaContext} restored on first use.
+ *
+ * Run with {@code -prof gc} to compare the allocation per step as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SagaContextBenchmark {
+
+    private SagaContext variablesContext;
+    private CustomerSagaContext typedContext;
+    private SagaContext restoredContext;
+
+    @Setup
+    public void setUp() {
+        // party ids above the Long cache, as assigned by customer-mgmt
+        long partyId = 1_000_000L;
+
+        variablesContext = new SagaContext();
+        variablesContext.variables().put(CTX_PARTY_ID, partyId);
+        variablesContext.variables().put(CTX_CUSTOMER_TYPE, TYPE_NATURAL_PERSON);
+
+        typedContext = new CustomerSagaContext();
+        typedContext.setPartyId(partyId);
+        typedContext.setPartyKind(PartyKind.INDIVIDUAL);
+
+        restoredContext = new SagaContext();
+        restoredContext.variables().put(CTX_PARTY_ID, partyId);
+        restoredContext.variables().put(CTX_CUSTOMER_TYPE, TYPE_NATURAL_PERSON);
+        CustomerSagaContext.of(restoredContext);
+    }
+
+    @Benchmark
+    public void variables(Blackhole blackhole) {
+        blackhole.consume(variablesContext.variables().get(CTX_CUSTOMER_TYPE).equals(TYPE_NATURAL_PERSON));
+        blackhole.consume((long) (Long) variablesContext.variables().get(CTX_PARTY_ID));
+    }
+
+    @Benchmark
+    public void typed(Blackhole blackhole) {
+        CustomerSagaContext customer = CustomerSagaContext.of(typedContext);
+        blackhole.consume(customer.getPartyKind() == PartyKind.INDIVIDUAL);
+        blackhole.consume((long) customer.getPartyId());
+    }
+
+    @Benchmark
+    public void restored(Blackhole blackhole) {
+        CustomerSagaContext customer = CustomerSagaContext.of(restoredContext);
+        blackhole.consume(customer.getPartyKind() == PartyKind.INDIVIDUAL);
+        blackhole.consume((long) customer.getPartyId());
+    }
+}
@@ -0,0 +1,176 @@
+package com.firefly.domain.people.benchmarks.load;
+
+import com.firefly.domain.people.benchmarks.BenchmarkFixtures;
+import com.firefly.domain.people.benchmarks.stub.LatencyDistribution;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.firefly.domain.people.core.orchestrator.GlobalConstants.TYPE_NATURAL_PERSON;
+
+/**
+ * Load driver for {@code POST /api/v1/customers}.
+ *
+ * Runs either closed-loop, keeping {@code --concurrency} registrations in flight to find the
+ * saturation throughput, or open-loop at {@code --rate} requests per second to measure latency at
+ * a given load. In open-loop mode latency is measured from the scheduled send time, so a stalled
+ * service is not hidden by the driver sending less (coordinated omission). Prints throughput,
+ * latency percentiles and status counts every reporting interval and for the whole run.
+ *
+ * Options ({@code --name=value}): {@code url} (http://localhost:8080), {@code concurrency} (256),
+ * {@code rate} (0, closed-loop), {@code duration} (60s), {@code warmup} (10s),
+ * {@code party-kind} (INDIVIDUAL), {@code items} (1), {@code prefer-async} (false),
+ * {@code report-interval} (5s).
+ */
+public class RegistrationLoadDriver {
+
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+    private final WebClient webClient;
+    private final String partyKind;
+    private final int items;
+    private final boolean preferAsync;
+    private final AtomicLong taxIds = new AtomicLong(System.currentTimeMillis());
+    private final Recorder recorder = new Recorder(MAX_LATENCY_NANOS, 3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    public RegistrationLoadDriver(String url, int connections, String partyKind, int items, boolean preferAsync) {
+        ConnectionProvider provider = ConnectionProvider.builder("load-driver")
+                .maxConnections(connections)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        this.webClient = WebClient.builder()
+                .baseUrl(url)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(provider)))
+                .build();
+        this.partyKind = partyKind;
+        this.items = items;
+        this.preferAsync = preferAsync;
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = parse(args);
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "256"));
+        int rate = Integer.parseInt(options.getOrDefault("rate", "0"));
+        Duration duration = LatencyDistribution.parseDuration(options.getOrDefault("duration", "60s"));
+        Duration warmup = LatencyDistribution.parseDuration(options.getOrDefault("warmup", "10s"));
+        Duration reportInterval = LatencyDistribution.parseDuration(options.getOrDefault("report-interval", "5s"));
+
+        RegistrationLoadDriver driver = new RegistrationLoadDriver(
+                options.getOrDefault("url", "http://localhost:8080"),
+                concurrency,
+                options.getOrDefault("party-kind", TYPE_NATURAL_PERSON),
+                Integer.parseInt(options.getOrDefault("items", "1")),
+                Boolean.parseBoolean(options.getOrDefault("prefer-async", "false")));
+        driver.run(concurrency, rate, warmup, duration, reportInterval);
+    }
+
+    public void run(int concurrency, int rate, Duration warmup, Duration duration, Duration reportInterval) {
+        System.out.printf("%s load: %s, warmup %s, duration %s%n",
+                rate > 0 ? "open-loop" : "closed-loop",
+                rate > 0 ? rate + " req/s" : concurrency + " in flight", warmup, duration);
+
+        Flux<Long> requests = rate > 0 ? openLoop(rate, concurrency) : closedLoop(concurrency);
+
+        Histogram total = new Histogram(MAX_LATENCY_NANOS, 3);
+        Mono.delay(warmup)
+                .doOnNext(ignored -> {
+                    recorder.reset();
+                    statuses.clear();
+                    recording = true;
+                })
+                .thenMany(Flux.interval(reportInterval)
+                        .take(Math.max(1, duration.toNanos() / reportInterval.toNanos())))
+                .doOnNext(tick -> {
+                    Histogram interval = recorder.getIntervalHistogram();
+                    total.add(interval);
+                    print("interval", interval, reportInterval);
+                })
+                .takeUntilOther(requests.then())
+                .blockLast();
+
+        recording = false;
+        print("total", total, duration);
+        System.out.println("statuses: " + statuses);
+        System.exit(0);
+    }
+
+    private Flux<Long> closedLoop(int concurrency) {
+        return Flux.range(0, concurrency)
+                .flatMap(worker -> Flux.<Long>generate(sink -> sink.next(0L))
+                        .concatMap(ignored -> register(System.nanoTime())), concurrency);
+    }
+
+    private Flux<Long> openLoop(int rate, int maxInFlight) {
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        return Flux.interval(Duration.ofNanos(periodNanos))
+                .onBackpressureBuffer()
+                .flatMap(tick -> register(start + tick * periodNanos), maxInFlight);
+    }
+
+    private Mono<Long> register(long scheduledAt) {
+        String taxId = "L" + taxIds.incrementAndGet();
+        return webClient.post()
+                .uri("/api/v1/customers")
+                .headers(headers -> {
+                    if (preferAsync) {
+                        headers.set("Prefer", "respond-async");
+                    }
+                })
+                .bodyValue(BenchmarkFixtures.registerCustomer(partyKind, items, taxId))
+                .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode()))
+                .map(HttpStatusCode::value)
+                .onErrorReturn(-1)
+                .map(status -> {
+                    long latency = System.nanoTime() - scheduledAt;
+                    if (recording) {
+                        recorder.recordValue(Math.min(latency, MAX_LATENCY_NANOS));
+                        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+                    }
+                    return latency;
+                });
+    }
+
+    private static void print(String label, Histogram histogram, Duration over) {
+        double seconds = over.toNanos() / 1e9;
+        System.out.printf("%-8s %10.1f req/s  p50 %8.2f ms  p90 %8.2f ms  p99 %8.2f ms  p99.9 %8.2f ms  max %8.2f ms%n",
+                label,
+                histogram.getTotalCount() / seconds,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static Map<String, String> parse(String... args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            int separator = option.indexOf('=');
+            options.put(separator < 0 ? option : option.substring(0, separator),
+                    separator < 0 ? "true" : option.substring(separator + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,229 @@
+package com.firefly.domain.people.benchmarks.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Map.entry;
+
+/**
+ * Stand-in for customer-mgmt, for load tests of this service on a single machine.
+ *
+ * Answers the calls of {@code CustomersClientImpl} without any storage: a create echoes the
+ * request with a generated id, a read returns the requested id, a read of a collection returns
+ * one entity with a generated id, an update echoes the request and a delete returns 204. Every response is delayed by the configured {@link LatencyDistribution}
+ * and a configured fraction of requests fails.
+ *
+ * Run with, for example:
+ * <pre>
+ * java -cp benchmarks.jar com.firefly.domain.people.benchmarks.stub.CustomerMgmtStubServer \
+ *      --port=8081 --latency=lognormal:15ms:120ms --latency.addresses=fixed:40ms \
+ *      --error-rate=0.005 --error-status=503 --ids=sequential:1000000 --protocol=h2c
+ * </pre>
+ */
+public class CustomerMgmtStubServer {
+
+    /**
+     * Id property of the SDK DTO returned for each customer-mgmt resource.
+     */
+    private static final Map<String, String> ID_PROPERTIES = Map.ofEntries(
+            entry("parties", "partyId"),
+            entry("natural-persons", "naturalPersonId"),
+            entry("legal-entities", "legalEntityId"),
+            entry("party-statuses", "partyStatusId"),
+            entry("statuses", "partyStatusId"),
+            entry("politically-exposed-persons", "pepId"),
+            entry("peps", "pepId"),
+            entry("identity-documents", "identityDocumentId"),
+            entry("addresses", "addressId"),
+            entry("email-contacts", "emailContactId"),
+            entry("emails", "emailContactId"),
+            entry("phone-contacts", "phoneContactId"),
+            entry("phones", "phoneContactId"),
+            entry("party-economic-activities", "partyEconomicActivityId"),
+            entry("economic-activities", "partyEconomicActivityId"),
+            entry("consents", "consentId"),
+            entry("party-providers", "partyProviderId"),
+            entry("providers", "partyProviderId"),
+            entry("party-relationships", "partyRelationshipId"),
+            entry("relationships", "partyRelationshipId"),
+            entry("party-group-memberships", "partyGroupMembershipId"),
+            entry("group-memberships", "partyGroupMembershipId"));
+
+    /**
+     * Resources read by party id without an id of their own: a party has at most one of each, so
+     * a read returns the entity rather than a collection.
+     */
+    private static final Set<String> SINGLE_RESOURCES = Set.of("natural-persons", "legal-entities");
+
+    private final StubOptions options;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong ids;
+    private final AtomicLong connections = new AtomicLong();
+
+    public CustomerMgmtStubServer(StubOptions options) {
+        this.options = options;
+        this.ids = new AtomicLong(options.firstId() - 1);
+    }
+
+    public static void main(String[] args) {
+        StubOptions options = StubOptions.parse(args);
+        DisposableServer server = new CustomerMgmtStubServer(options).start();
+        System.out.printf("customer-mgmt stub listening on port %d (error rate %.4f, status %d)%n",
+                server.port(), options.errorRate(), options.errorStatus());
+        server.onDispose().block();
+    }
+
+    public DisposableServer start() {
+        HttpServer server = HttpServer.create()
+                .port(options.port())
+                .doOnConnection(connection -> connections.incrementAndGet());
+        if (options.h2c()) {
+            server = server.protocol(HttpProtocol.HTTP11, HttpProtocol.H2C);
+        }
+        return server
+                .handle(this::handle)
+                .bindNow();
+    }
+
+    /**
+     * @return the number of connections accepted since the start
+     */
+    public long connectionCount() {
+        return connections.get();
+    }
+
+    private Publisher<Void> handle(HttpServerRequest request, HttpServerResponse response) {
+        Route route = Route.of(request.uri());
+        Duration delay = options.latencyOf(route.resource()).sample();
+
+        if (ThreadLocalRandom.current().nextDouble() < options.errorRate()) {
+            return Mono.delay(delay)
+                    .then(request.receive().then())
+                    .then(Mono.defer(() -> response.status(options.errorStatus()).send()));
+        }
+
+        HttpMethod method = request.method();
+        if (HttpMethod.DELETE.equals(method)) {
+            return Mono.delay(delay)
+                    .then(request.receive().then())
+                    .then(Mono.defer(() -> response.status(HttpResponseStatus.NO_CONTENT).send()));
+        }
+        if (HttpMethod.GET.equals(method)) {
+            return Mono.delay(delay)
+                    .then(Mono.defer(() -> json(response, HttpResponseStatus.OK, read(route))));
+        }
+        boolean create = HttpMethod.POST.equals(method);
+        return request.receive().aggregate().asString()
+                .defaultIfEmpty("{}")
+                .delayElement(delay)
+                .flatMap(body -> json(response,
+                        create ? HttpResponseStatus.CREATED : HttpResponseStatus.OK,
+                        write(route, body, create)));
+    }
+
+    private JsonNode read(Route route) {
+        if (route.id() == null && !SINGLE_RESOURCES.contains(route.resource())) {
+            ArrayNode collection = objectMapper.createArrayNode();
+            collection.add(entity(route));
+            return collection;
+        }
+        return entity(route);
+    }
+
+    private ObjectNode entity(Route route) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put(idProperty(route.resource()), route.id() != null ? route.id() : nextId());
+        if ("parties".equals(route.resource())) {
+            node.put("partyKind", "INDIVIDUAL");
+        }
+        if ("email-contacts".equals(route.resource())) {
+            node.put("email", "customer@example.com");
+            node.put("isPrimary", true);
+        }
+        return node;
+    }
+
+    private JsonNode write(Route route, String body, boolean create) {
+        ObjectNode node;
+        try {
+            JsonNode parsed = objectMapper.readTree(body);
+            node = parsed instanceof ObjectNode object ? object : objectMapper.createObjectNode();
+        } catch (Exception e) {
+            node = objectMapper.createObjectNode();
+        }
+        node.put(idProperty(route.resource()), create || route.id() == null ? nextId() : route.id());
+        return node;
+    }
+
+    private Mono<Void> json(HttpServerResponse response, HttpResponseStatus status, JsonNode body) {
+        return response.status(status)
+                .header(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON)
+                .sendString(Mono.just(body.toString()))
+                .then();
+    }
+
+    private long nextId() {
+        return options.randomIds()
+                ? ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE)
+                : ids.incrementAndGet();
+    }
+
+    private static String idProperty(String resource) {
+        return ID_PROPERTIES.getOrDefault(resource, "id");
+    }
+
+    /**
+     * The resource addressed by a request path: the last non-numeric segment, and the numeric
+     * segment following it when the request targets a single entity.
+     */
+    private record Route(String resource, Long id) {
+
+        static Route of(String uri) {
+            int query = uri.indexOf('?');
+            String path = query < 0 ? uri : uri.substring(0, query);
+            List<String> segments = new ArrayList<>();
+            for (String segment : path.split("/")) {
+                if (!segment.isEmpty()) {
+                    segments.add(segment);
+                }
+            }
+            for (int i = segments.size() - 1; i >= 0; i--) {
+                if (!isNumeric(segments.get(i))) {
+                    Long id = i + 1 < segments.size() ? Long.parseLong(segments.get(i + 1)) : null;
+                    return new Route(segments.get(i), id);
+                }
+            }
+            return new Route("", null);
+        }
+
+        private static boolean isNumeric(String segment) {
+            for (int i = 0; i < segment.length(); i++) {
+                if (!Character.isDigit(segment.charAt(i))) {
+                    return false;
+                }
+            }
+            return !segment.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.firefly.domain.people.benchmarks.stub;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Response delay of the stub server.
+ *
+ * Parsed from one of:
+ * <ul>
+ *     <li>{@code 0} or {@code none}: answer immediately;</li>
+ *     <li>{@code fixed:20ms}: always the same delay;</li>
+ *     <li>{@code uniform:5ms:50ms}: uniformly between two bounds;</li>
+ *     <li>{@code lognormal:20ms:250ms}: log-normal with the given median and p99, the usual shape of
+ *     service latencies with a long tail.</li>
+ * </ul>
+ */
+public interface LatencyDistribution {
+
+    LatencyDistribution NONE = () -> Duration.ZERO;
+
+    Duration sample();
+
+    static LatencyDistribution parse(String spec) {
+        if (spec == null || spec.isBlank() || spec.equals("0") || spec.equals("none")) {
+            return NONE;
+        }
+        String[] parts = spec.split(":");
+        return switch (parts[0]) {
+            case "fixed" -> {
+                Duration delay = parseDuration(parts[1]);
+                yield () -> delay;
+            }
+            case "uniform" -> {
+                long min = parseDuration(parts[1]).toNanos();
+                long max = parseDuration(parts[2]).toNanos();
+                yield () -> Duration.ofNanos(ThreadLocalRandom.current().nextLong(min, max + 1));
+            }
+            case "lognormal" -> {
+                double mu = Math.log(parseDuration(parts[1]).toNanos());
+                // 2.326 is the z-score of the 99th percentile of a standard normal distribution
+                double sigma = (Math.log(parseDuration(parts[2]).toNanos()) - mu) / 2.326;
+                yield () -> Duration.ofNanos((long) Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+            }
+            default -> throw new IllegalArgumentException("Unknown latency distribution: " + spec);
+        };
+    }
+
+    static Duration parseDuration(String value) {
+        if (value.endsWith("us")) {
+            return Duration.ofNanos(Long.parseLong(value.substring(0, value.length() - 2)) * 1_000);
+        }
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofMillis(Long.parseLong(value));
+    }
+}
@@ -0,0 +1,56 @@
+package com.firefly.domain.people.benchmarks.stub;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command-line options of {@link CustomerMgmtStubServer}, given as {@code --name=value}.
+ *
+ * @param port the listening port; defaults to 8081, the base path of the local profile
+ * @param latency the default response delay
+ * @param latencyByResource delays overriding the default for one resource, e.g. {@code --latency.addresses=fixed:80ms}
+ * @param errorRate the fraction of requests answered with {@code errorStatus}
+ * @param errorStatus the status of injected failures; 503 is retried by the service, 500 is not
+ * @param firstId the first generated id
+ * @param randomIds whether ids are random instead of sequential
+ * @param h2c whether HTTP/2 over cleartext is accepted besides HTTP/1.1 ({@code --protocol=h2c})
+ */
+public record StubOptions(int port,
+                          LatencyDistribution latency,
+                          Map<String, LatencyDistribution> latencyByResource,
+                          double errorRate,
+                          int errorStatus,
+                          long firstId,
+                          boolean randomIds,
+                          boolean h2c) {
+
+    public static StubOptions parse(String... args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            int separator = option.indexOf('=');
+            values.put(separator < 0 ? option : option.substring(0, separator),
+                    separator < 0 ? "true" : option.substring(separator + 1));
+        }
+        Map<String, LatencyDistribution> latencyByResource = new HashMap<>();
+        values.forEach((name, value) -> {
+            if (name.startsWith("latency.")) {
+                latencyByResource.put(name.substring("latency.".length()), LatencyDistribution.parse(value));
+            }
+        });
+        String ids = values.getOrDefault("ids", "sequential:1");
+        return new StubOptions(
+                Integer.parseInt(values.getOrDefault("port", "8081")),
+                LatencyDistribution.parse(values.getOrDefault("latency", "none")),
+                latencyByResource,
+                Double.parseDouble(values.getOrDefault("error-rate", "0")),
+                Integer.parseInt(values.getOrDefault("error-status", "503")),
+                ids.startsWith("sequential:") ? Long.parseLong(ids.substring("sequential:".length())) : 1L,
+                ids.equals("random"),
+                values.getOrDefault("protocol", "http11").equalsIgnoreCase("h2c"));
+    }
+
+    public LatencyDistribution latencyOf(String resource) {
+        return latencyByResource.getOrDefault(resource, latency);
+    }
+}
@@ -1,9 +1,24 @@
 package com.firefly.domain.people.core.integration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.domain.people.core.integration.client.CustomerMgmtBalancer;
+import com.firefly.domain.people.core.integration.client.CustomerMgmtGuard;
+import com.firefly.domain.people.core.integration.client.Deadline;
+import com.firefly.domain.people.core.integration.client.DownstreamMetrics;
+import com.firefly.domain.people.core.integration.client.DownstreamRetry;
 import com.firefly.domain.people.core.integration.properties.CustomerMgmtProperties;
+import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.Http2AllocationStrategy;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.text.DateFormat;
 
 /**
  * Default implementation of the ClientFactory interface.
@@ -12,25 +27,101 @@ import org.springframework.stereotype.Component;
 @Component
 public class ClientFactory {
 
+    static final String CUSTOMER_MGMT_POOL = "customer-mgmt";
+
     private final CustomerMgmtProperties customerMgmtProperties;
+    private final CustomerMgmtGuard customerMgmtGuard;
+    private final DownstreamRetry downstreamRetry;
+    private final CustomerMgmtBalancer customerMgmtBalancer;
+    private final DownstreamMetrics downstreamMetrics;
 
     @Autowired
     public ClientFactory(
-            CustomerMgmtProperties customerMgmtProperties) {
+            CustomerMgmtProperties customerMgmtProperties,
+            CustomerMgmtGuard customerMgmtGuard,
+            DownstreamRetry downstreamRetry,
+            CustomerMgmtBalancer customerMgmtBalancer,
+            DownstreamMetrics downstreamMetrics) {
         this.customerMgmtProperties = customerMgmtProperties;
+        this.customerMgmtGuard = customerMgmtGuard;
+        this.downstreamRetry = downstreamRetry;
+        this.customerMgmtBalancer = customerMgmtBalancer;
+        this.downstreamMetrics = downstreamMetrics;
     }
 
     /**
      * Creates and returns a Customers service client.
      *
+     * The client uses its own connection pool, sized and timed by the pool settings of
+     * {@link CustomerMgmtProperties}, with the shared JSON codecs of {@link CustomerMgmtCodecs}.
+     * With HTTP/2 the pool multiplexes up to the configured number of streams on each connection.
+     * Every call is first bounded by the {@link Deadline} of the request it serves, if any, is
+     * retried on transient failures by {@link DownstreamRetry}, and every attempt passes through
+     * the adaptive limit and circuit breakers of {@link CustomerMgmtGuard} before
+     * {@link CustomerMgmtBalancer} sends it to one of the customer-mgmt instances, so a retry may
+     * go to another instance. The payload sizes of every attempt are recorded by
+     * {@link DownstreamMetrics}.
+     *
      * @return A configured Customers service client
      */
     @Bean
     public com.firefly.core.customer.sdk.invoker.ApiClient createCustomersClient() {
-        com.firefly.core.customer.sdk.invoker.ApiClient apiClient = new com.firefly.core.customer.sdk.invoker.ApiClient();
+        DateFormat dateFormat = CustomerMgmtCodecs.dateFormat();
+        ObjectMapper objectMapper = CustomerMgmtCodecs.objectMapper();
+        WebClient webClient = com.firefly.core.customer.sdk.invoker.ApiClient.buildWebClientBuilder(objectMapper)
+                .codecs(CustomerMgmtCodecs::configure)
+                .clientConnector(new ReactorClientHttpConnector(customerMgmtHttpClient()))
+                .filter(Deadline.exchangeFilter())
+                .filter(downstreamRetry.filter())
+                .filter(customerMgmtGuard.filter())
+                .filter(customerMgmtBalancer.filter())
+                .filter(downstreamMetrics.filter())
+                .build();
+
+        com.firefly.core.customer.sdk.invoker.ApiClient apiClient =
+                new com.firefly.core.customer.sdk.invoker.ApiClient(webClient, objectMapper, dateFormat);
         apiClient.setBasePath(customerMgmtProperties.getBasePath());
         return apiClient;
     }
 
+    private HttpClient customerMgmtHttpClient() {
+        CustomerMgmtProperties.Pool pool = customerMgmtProperties.getPool();
+        CustomerMgmtProperties.Tcp tcp = customerMgmtProperties.getTcp();
+
+        ConnectionProvider.Builder provider = ConnectionProvider.builder(CUSTOMER_MGMT_POOL)
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictInBackground())
+                // registered in the Micrometer global registry, which Spring Boot exports
+                .metrics(pool.isMetrics());
+        if (pool.isLifo()) {
+            provider.lifo();
+        } else {
+            provider.fifo();
+        }
+        CustomerMgmtProperties.Protocol protocol = customerMgmtProperties.getProtocol();
+        if (protocol != CustomerMgmtProperties.Protocol.HTTP11) {
+            CustomerMgmtProperties.Http2 http2 = customerMgmtProperties.getHttp2();
+            provider.allocationStrategy(Http2AllocationStrategy.builder()
+                    .maxConcurrentStreams(http2.getMaxConcurrentStreams())
+                    .maxConnections(http2.getMaxConnections())
+                    .minConnections(http2.getMinConnections())
+                    .build());
+        }
 
+        HttpClient httpClient = HttpClient.create(provider.build())
+                .keepAlive(tcp.isKeepAlive())
+                .responseTimeout(tcp.getResponseTimeout())
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(tcp.getConnectTimeout().toMillis()))
+                .option(ChannelOption.SO_KEEPALIVE, tcp.isSoKeepAlive())
+                .option(ChannelOption.TCP_NODELAY, tcp.isNoDelay());
+        return switch (protocol) {
+            case HTTP11 -> httpClient;
+            case H2 -> httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+            case H2C -> httpClient.protocol(HttpProtocol.H2C);
+        };
+    }
 }
@@ -0,0 +1,54 @@
+package com.firefly.domain.people.core.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.firefly.core.customer.sdk.invoker.ApiClient;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ClientCodecConfigurer;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+
+import java.text.DateFormat;
+
+/**
+ * JSON codecs of the customer-mgmt client.
+ *
+ * A single mapper is shared by every customer-mgmt call and configured once: the SDK defaults
+ * (date format, unknown properties, nullable handling) plus the Blackbird module, which replaces
+ * reflective property access with generated lambdas. The WebClient codecs built on it encode
+ * request bodies straight into the pooled Netty buffers of the connector and decode responses
+ * from them, without an intermediate String.
+ */
+public final class CustomerMgmtCodecs {
+
+    private static final DateFormat DATE_FORMAT = ApiClient.createDefaultDateFormat();
+    private static final ObjectMapper OBJECT_MAPPER = ApiClient.createDefaultObjectMapper(DATE_FORMAT)
+            .registerModule(new BlackbirdModule());
+
+    private CustomerMgmtCodecs() {
+    }
+
+    /**
+     * @return the date format of the SDK, used to format dates outside of bodies
+     */
+    public static DateFormat dateFormat() {
+        return DATE_FORMAT;
+    }
+
+    /**
+     * @return the shared mapper of customer-mgmt bodies
+     */
+    public static ObjectMapper objectMapper() {
+        return OBJECT_MAPPER;
+    }
+
+    /**
+     * Registers the JSON encoder and decoder on the shared mapper with a WebClient.
+     *
+     * @param configurer the codec configurer of the WebClient builder
+     */
+    public static void configure(ClientCodecConfigurer configurer) {
+        configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(OBJECT_MAPPER, MediaType.APPLICATION_JSON));
+        configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(OBJECT_MAPPER, MediaType.APPLICATION_JSON));
+    }
+}
@@ -0,0 +1,103 @@
+package com.firefly.domain.people.core.integration.client;
+
+import com.firefly.core.customer.sdk.model.LegalEntityDTO;
+import com.firefly.core.customer.sdk.model.NaturalPersonDTO;
+import com.firefly.core.customer.sdk.model.PartyDTO;
+import com.firefly.domain.people.core.integration.properties.CustomerMgmtProperties;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+/**
+ * Read-through cache of the party, natural-person and legal-entity lookups by party id.
+ *
+ * Entries are bounded in number and expire after a fixed time; our own updates and deletes
+ * invalidate them through the {@code invalidate*} methods. A failed or empty lookup is not
+ * cached, and concurrent lookups of the same party share one downstream call. Hit and miss
+ * counts are published as the cache.* meters tagged with cache=customer-mgmt.&lt;lookup&gt;.
+ */
+@Component
+public class CustomerLookupCache {
+
+    static final String CACHE_PREFIX = "customer-mgmt.";
+
+    private final boolean enabled;
+    private final AsyncCache<Long, ResponseEntity<PartyDTO>> parties;
+    private final AsyncCache<Long, ResponseEntity<NaturalPersonDTO>> naturalPersons;
+    private final AsyncCache<Long, ResponseEntity<LegalEntityDTO>> legalEntities;
+
+    @Autowired
+    public CustomerLookupCache(CustomerMgmtProperties customerMgmtProperties, MeterRegistry meterRegistry) {
+        CustomerMgmtProperties.Cache properties = customerMgmtProperties.getCache();
+        this.enabled = properties.isEnabled();
+        this.parties = build(properties, meterRegistry, "parties");
+        this.naturalPersons = build(properties, meterRegistry, "natural-persons");
+        this.legalEntities = build(properties, meterRegistry, "legal-entities");
+    }
+
+    /**
+     * @return false if lookups go straight to their loader, uncached and uncoalesced
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Mono<ResponseEntity<PartyDTO>> party(Long partyId, Function<Long, Mono<ResponseEntity<PartyDTO>>> loader) {
+        return lookup(parties, partyId, loader);
+    }
+
+    public Mono<ResponseEntity<NaturalPersonDTO>> naturalPerson(Long partyId, Function<Long, Mono<ResponseEntity<NaturalPersonDTO>>> loader) {
+        return lookup(naturalPersons, partyId, loader);
+    }
+
+    public Mono<ResponseEntity<LegalEntityDTO>> legalEntity(Long partyId, Function<Long, Mono<ResponseEntity<LegalEntityDTO>>> loader) {
+        return lookup(legalEntities, partyId, loader);
+    }
+
+    /**
+     * Invalidates every lookup of a party, after the party itself changed or was removed.
+     */
+    public void invalidateParty(Long partyId) {
+        parties.synchronous().invalidate(partyId);
+        invalidateNaturalPerson(partyId);
+        invalidateLegalEntity(partyId);
+    }
+
+    public void invalidateNaturalPerson(Long partyId) {
+        naturalPersons.synchronous().invalidate(partyId);
+    }
+
+    public void invalidateLegalEntity(Long partyId) {
+        legalEntities.synchronous().invalidate(partyId);
+    }
+
+    private <T> Mono<ResponseEntity<T>> lookup(AsyncCache<Long, ResponseEntity<T>> cache, Long partyId,
+                                               Function<Long, Mono<ResponseEntity<T>>> loader) {
+        if (!enabled || partyId == null) {
+            return loader.apply(partyId);
+        }
+        // the load is shared by every waiting caller, so one of them cancelling must not cancel it;
+        // for the same reason it runs without the caller's deadline, which only bounds the wait
+        return Deadline.waitFor(
+                Mono.defer(() -> Mono.fromFuture(cache.get(partyId, (id, executor) -> loader.apply(id).toFuture()), true)),
+                "cached lookup");
+    }
+
+    private static <T> AsyncCache<Long, ResponseEntity<T>> build(CustomerMgmtProperties.Cache properties,
+                                                                 MeterRegistry meterRegistry, String name) {
+        AsyncCache<Long, ResponseEntity<T>> cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_PREFIX + name);
+        return cache;
+    }
+}
@@ -0,0 +1,112 @@
+package com.firefly.domain.people.core.integration.client;
+
+import com.firefly.domain.people.core.integration.properties.CustomerMgmtProperties;
+import com.firefly.domain.people.core.utils.P2cBalancer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Balances customer-mgmt calls across the configured instances.
+ *
+ * Each call is sent to the instance picked by a {@link P2cBalancer}: the cheaper of two random
+ * instances by latency and outstanding calls, skipping instances ejected after consecutive
+ * failures or for being much slower than the others. The scheme, host and port of the request
+ * are replaced by those of the instance. Failures are counted as for the circuit breakers of
+ * {@link CustomerMgmtGuard}. With no instances configured, calls go to the base path unchanged.
+ * The outstanding calls and the ejection of every instance are exposed as the
+ * {@value #OUTSTANDING_GAUGE} and {@value #EJECTED_GAUGE} gauges.
+ */
+@Component
+public class CustomerMgmtBalancer {
+
+    static final String OUTSTANDING_GAUGE = "people.downstream.endpoint.outstanding";
+    static final String EJECTED_GAUGE = "people.downstream.endpoint.ejected";
+
+    private final P2cBalancer<URI> balancer;
+
+    @Autowired
+    public CustomerMgmtBalancer(CustomerMgmtProperties customerMgmtProperties, MeterRegistry meterRegistry) {
+        List<URI> endpoints = customerMgmtProperties.getEndpoints().stream()
+                .map(URI::create)
+                .toList();
+        if (endpoints.isEmpty()) {
+            this.balancer = null;
+            return;
+        }
+        CustomerMgmtProperties.Balancer properties = customerMgmtProperties.getBalancer();
+        this.balancer = new P2cBalancer<>(endpoints, properties.getConsecutiveFailures(),
+                properties.getLatencyFactor(), properties.getBaseEjectionTime().toNanos(),
+                properties.getMaxEjectionRatio());
+        balancer.members().forEach(member -> {
+            String endpoint = member.target().toString();
+            Gauge.builder(OUTSTANDING_GAUGE, member, P2cBalancer.Member::outstanding)
+                    .description("Calls in flight to a customer-mgmt instance")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry);
+            Gauge.builder(EJECTED_GAUGE, member, m -> m.ejected() ? 1 : 0)
+                    .description("Whether a customer-mgmt instance is ejected from balancing: 1 ejected, 0 not")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry);
+        });
+    }
+
+    /**
+     * @return a filter sending WebClient calls to the instance picked for each of them
+     */
+    public ExchangeFilterFunction filter() {
+        return (request, next) -> balancer == null ? next.exchange(request) : exchange(request, next);
+    }
+
+    private Mono<ClientResponse> exchange(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            P2cBalancer.Member<URI> member = balancer.choose();
+            URI endpoint = member.target();
+            URI url = UriComponentsBuilder.fromUri(request.url())
+                    .scheme(endpoint.getScheme())
+                    .host(endpoint.getHost())
+                    .port(endpoint.getPort())
+                    .build(true)
+                    .toUri();
+            long startNanos = System.nanoTime();
+            AtomicBoolean done = new AtomicBoolean();
+            return next.exchange(ClientRequest.from(request).url(url).build())
+                    .doOnSuccess(response -> {
+                        if (done.compareAndSet(false, true)) {
+                            if (response == null) {
+                                member.onIgnore();
+                            } else if (DownstreamErrors.isTransient(response.statusCode().value())) {
+                                member.onFailure();
+                            } else {
+                                member.onSuccess(System.nanoTime() - startNanos);
+                            }
+                        }
+                    })
+                    .doOnError(error -> {
+                        if (done.compareAndSet(false, true)) {
+                            if (DownstreamErrors.isTransient(error)) {
+                                member.onFailure();
+                            } else {
+                                member.onIgnore();
+                            }
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (done.compareAndSet(false, true)) {
+                            member.onIgnore();
+                        }
+                    });
+        });
+    }
+}
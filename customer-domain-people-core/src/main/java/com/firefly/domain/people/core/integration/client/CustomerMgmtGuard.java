@@ -0,0 +1,228 @@
+package com.firefly.domain.people.core.integration.client;
+
+import com.firefly.domain.people.core.integration.properties.CustomerMgmtProperties;
+import com.firefly.domain.people.core.utils.AimdLimiter;
+import com.firefly.domain.people.core.utils.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Protects customer-mgmt from this service, and this service from a slow customer-mgmt.
+ *
+ * Every call through the {@link #filter()} of the customer-mgmt WebClient is subject to an
+ * {@link AimdLimiter} shared by all calls and to a {@link CircuitBreaker} of its resource, i.e.
+ * the last path segment naming an entity (parties, addresses...). Calls beyond the limit or to
+ * an open resource fail at once with a {@link DownstreamRejectedException}. Deletes are never
+ * rejected, because they are how sagas compensate, but they still count against the limit and
+ * feed the breakers.
+ *
+ * Responses 408, 429 and 5xx (except 501), connection errors and timeouts are failures; a slow
+ * response lowers the limit without counting as a failure.
+ */
+@Component
+public class CustomerMgmtGuard {
+
+    static final String LIMIT_GAUGE = "people.downstream.limit";
+    static final String IN_FLIGHT_GAUGE = "people.downstream.in.flight";
+    static final String CIRCUIT_STATE_GAUGE = "people.downstream.circuit.state";
+    static final String REJECTED_COUNTER = "people.downstream.rejected";
+
+    private final CustomerMgmtProperties.CircuitBreaker breakerProperties;
+    private final MeterRegistry meterRegistry;
+    private final AimdLimiter limiter;
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CustomerMgmtGuard(CustomerMgmtProperties customerMgmtProperties, MeterRegistry meterRegistry) {
+        this.breakerProperties = customerMgmtProperties.getCircuitBreaker();
+        this.meterRegistry = meterRegistry;
+
+        CustomerMgmtProperties.Limiter limiterProperties = customerMgmtProperties.getLimiter();
+        this.limiter = limiterProperties.isEnabled()
+                ? new AimdLimiter(limiterProperties.getInitialLimit(), limiterProperties.getMinLimit(),
+                        limiterProperties.getMaxLimit(), limiterProperties.getBackoffRatio(),
+                        limiterProperties.getLatencyThreshold().toNanos())
+                : null;
+        if (limiter != null) {
+            Gauge.builder(LIMIT_GAUGE, limiter, AimdLimiter::limit)
+                    .description("Current adaptive limit of concurrent calls to customer-mgmt")
+                    .register(meterRegistry);
+            Gauge.builder(IN_FLIGHT_GAUGE, limiter, AimdLimiter::inFlight)
+                    .description("Calls to customer-mgmt currently in flight")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * @return the filter applying the limit and the circuit breakers to a WebClient
+     */
+    public ExchangeFilterFunction filter() {
+        return this::exchange;
+    }
+
+    /**
+     * @return the current limit and the state of every circuit breaker, by resource
+     */
+    public GuardState state() {
+        Map<String, BreakerState> breakerStates = new TreeMap<>();
+        breakers.forEach((resource, breaker) ->
+                breakerStates.put(resource, new BreakerState(breaker.state(), breaker.failureRate())));
+        return new GuardState(
+                limiter != null ? new LimiterState(limiter.limit(), limiter.inFlight()) : null,
+                breakerStates);
+    }
+
+    private Mono<ClientResponse> exchange(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            String resource = resourceOf(request.url());
+            boolean sheddable = !HttpMethod.DELETE.equals(request.method());
+
+            CircuitBreaker breaker = breaker(resource);
+            boolean breakerPermit = breaker != null && breaker.tryAcquire();
+            if (breaker != null && !breakerPermit && sheddable) {
+                return reject(resource, "circuit-open");
+            }
+            if (limiter != null) {
+                if (!sheddable) {
+                    limiter.acquire();
+                } else if (!limiter.tryAcquire()) {
+                    if (breakerPermit) {
+                        breaker.onIgnore();
+                    }
+                    return reject(resource, "limit");
+                }
+            }
+
+            Call call = new Call(breakerPermit ? breaker : null, System.nanoTime());
+            return next.exchange(request)
+                    .doOnNext(response -> {
+                        if (DownstreamErrors.isTransient(response.statusCode().value())) {
+                            call.failed();
+                        } else {
+                            call.succeeded();
+                        }
+                    })
+                    .doOnError(error -> {
+                        if (DownstreamErrors.isTransient(error)) {
+                            call.failed();
+                        } else {
+                            call.ignored();
+                        }
+                    })
+                    .doOnCancel(call::ignored);
+        });
+    }
+
+    private <T> Mono<T> reject(String resource, String reason) {
+        Counter.builder(REJECTED_COUNTER)
+                .description("Calls to customer-mgmt rejected without being sent")
+                .tag("resource", resource)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        return Mono.error(new DownstreamRejectedException(
+                "customer-mgmt call to " + resource + " rejected: " + reason));
+    }
+
+    private CircuitBreaker breaker(String resource) {
+        if (!breakerProperties.isEnabled()) {
+            return null;
+        }
+        return breakers.computeIfAbsent(resource, name -> {
+            CircuitBreaker breaker = new CircuitBreaker(breakerProperties.getWindowSize(),
+                    breakerProperties.getMinimumCalls(), breakerProperties.getFailureRateThreshold(),
+                    breakerProperties.getOpenDuration().toNanos(), breakerProperties.getHalfOpenCalls());
+            Gauge.builder(CIRCUIT_STATE_GAUGE, breaker, b -> b.state().ordinal())
+                    .description("Circuit breaker state of a customer-mgmt resource: 0 closed, 1 open, 2 half-open")
+                    .tag("resource", name)
+                    .register(meterRegistry);
+            return breaker;
+        });
+    }
+
+    /**
+     * The resource of a customer-mgmt URL: its last path segment that is not an id.
+     */
+    static String resourceOf(URI url) {
+        String[] segments = url.getPath().split("/");
+        for (int i = segments.length - 1; i >= 0; i--) {
+            String segment = segments[i];
+            if (!segment.isEmpty() && !segment.chars().allMatch(Character::isDigit)) {
+                return segment;
+            }
+        }
+        return "root";
+    }
+
+    /**
+     * Reports the outcome of one call to the limiter and breaker exactly once.
+     */
+    private final class Call {
+
+        private final CircuitBreaker breaker;
+        private final long startNanos;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private Call(CircuitBreaker breaker, long startNanos) {
+            this.breaker = breaker;
+            this.startNanos = startNanos;
+        }
+
+        void succeeded() {
+            if (done.compareAndSet(false, true)) {
+                if (limiter != null) {
+                    limiter.onSuccess(System.nanoTime() - startNanos);
+                }
+                if (breaker != null) {
+                    breaker.onSuccess();
+                }
+            }
+        }
+
+        void failed() {
+            if (done.compareAndSet(false, true)) {
+                if (limiter != null) {
+                    limiter.onOverload();
+                }
+                if (breaker != null) {
+                    breaker.onFailure();
+                }
+            }
+        }
+
+        void ignored() {
+            if (done.compareAndSet(false, true)) {
+                if (limiter != null) {
+                    limiter.onIgnore();
+                }
+                if (breaker != null) {
+                    breaker.onIgnore();
+                }
+            }
+        }
+    }
+
+    public record GuardState(LimiterState limiter, Map<String, BreakerState> circuitBreakers) {
+    }
+
+    public record LimiterState(int limit, int inFlight) {
+    }
+
+    public record BreakerState(CircuitBreaker.State state, double failureRate) {
+    }
+}
@@ -5,6 +5,8 @@ import com.firefly.domain.people.interfaces.dto.commands.*;
 import org.springframework.http.ResponseEntity;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * Client interface for integrating with the customer management system.
  * 
@@ -64,6 +66,8 @@ public interface CustomersClient {
 
     Mono<ResponseEntity<EmailContactDTO>> updateEmail(Long partyId, Long emailId, RegisterEmailCommand emailCommand);
 
+    Mono<ResponseEntity<List<EmailContactDTO>>> getEmails(Long partyId);
+
     // Phone operations
     Mono<ResponseEntity<PhoneContactDTO>> createPhone(Long partyId, RegisterPhoneCommand phoneCommand);
 
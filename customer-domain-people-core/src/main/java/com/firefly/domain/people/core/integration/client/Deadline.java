@@ -0,0 +1,124 @@
+package com.firefly.domain.people.core.integration.client;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Point in time by which the caller of this service stops waiting for an answer.
+ *
+ * Carried through the Reactor context like {@link IdempotencyKey}: bound to an inbound request
+ * and, for sagas, to every step call. The {@link #exchangeFilter()} of the customer-mgmt
+ * WebClient refuses calls past the deadline, times out the ones that run into it and forwards
+ * the remaining time downstream in the {@value #HEADER} header, in milliseconds.
+ */
+public final class Deadline {
+
+    public static final String HEADER = "X-Request-Timeout";
+
+    private static final String CONTEXT_KEY = Deadline.class.getName();
+
+    private final long expiresAtNanos;
+
+    private Deadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    /**
+     * @param timeout the time left from now
+     * @return the deadline expiring after the timeout
+     */
+    public static Deadline after(Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * Resolves the deadline bound to a subscription.
+     *
+     * @param ctx the Reactor context of the subscription
+     * @return the bound deadline, if any
+     */
+    public static Optional<Deadline> from(ContextView ctx) {
+        return ctx.getOrEmpty(CONTEXT_KEY);
+    }
+
+    /**
+     * @return a Reactor context binding this deadline, to be applied with {@code contextWrite}
+     */
+    public Context asContext() {
+        return Context.of(CONTEXT_KEY, this);
+    }
+
+    /**
+     * @return a context operator removing any bound deadline, to be applied with {@code contextWrite}
+     */
+    public static Function<Context, Context> unbind() {
+        return ctx -> ctx.delete(CONTEXT_KEY);
+    }
+
+    /**
+     * @return the time left, negative once the deadline has passed
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(expiresAtNanos - System.nanoTime());
+    }
+
+    /**
+     * @param budget the time a piece of work needs
+     * @return true if the time left is at least the budget
+     */
+    public boolean covers(Duration budget) {
+        return remaining().compareTo(budget) >= 0;
+    }
+
+    /**
+     * @param work describes the work refused or interrupted by this deadline
+     * @return the error to signal for it
+     */
+    public DeadlineExceededException exceeded(String work) {
+        return new DeadlineExceededException("Deadline exceeded before " + work + " could complete");
+    }
+
+    /**
+     * Bounds the wait for a source by the deadline bound to the subscription, if any, without
+     * binding the deadline to the source itself.
+     *
+     * @param source the work waited for
+     * @param work describes the work, for the error
+     * @return the source, failing with {@link DeadlineExceededException} once the deadline passed
+     */
+    public static <T> Mono<T> waitFor(Mono<T> source, String work) {
+        return Mono.deferContextual(ctx -> from(ctx)
+                .map(deadline -> source.timeout(deadline.remaining(), Mono.error(() -> deadline.exceeded(work))))
+                .orElse(source));
+    }
+
+    /**
+     * @return a filter applying the deadline bound to the subscription, if any, to WebClient calls
+     */
+    public static ExchangeFilterFunction exchangeFilter() {
+        return (request, next) -> Mono.deferContextual(ctx -> {
+            Optional<Deadline> bound = from(ctx);
+            if (bound.isEmpty()) {
+                return next.exchange(request);
+            }
+            Deadline deadline = bound.get();
+            Duration remaining = deadline.remaining();
+            String call = request.method() + " " + request.url().getPath();
+            if (remaining.isNegative() || remaining.isZero()) {
+                return Mono.error(deadline.exceeded(call));
+            }
+            ClientRequest withDeadline = ClientRequest.from(request)
+                    .header(HEADER, Long.toString(Math.max(1, remaining.toMillis())))
+                    .build();
+            return next.exchange(withDeadline)
+                    .timeout(remaining, Mono.error(() -> deadline.exceeded(call)));
+        });
+    }
+}
@@ -0,0 +1,12 @@
+package com.firefly.domain.people.core.integration.client;
+
+/**
+ * Raised when the {@link Deadline} of a request passed before some of its work could start or
+ * complete. Not transient: the caller is no longer waiting, so the work is not retried.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,46 @@
+package com.firefly.domain.people.core.integration.client;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Classification of errors returned by the customer management system.
+ */
+public final class DownstreamErrors {
+
+    private DownstreamErrors() {
+    }
+
+    /**
+     * Tells whether an error is transient, i.e. the same request may succeed if sent again.
+     * Connection failures, timeouts, 408, 429 and 5xx responses (except 501) are transient;
+     * any other client error is not.
+     *
+     * @param error the error raised by a downstream call
+     * @return true if the call is worth retrying
+     */
+    public static boolean isTransient(Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            return isTransient(responseException.getStatusCode().value());
+        }
+        return error instanceof WebClientRequestException
+                || error instanceof TimeoutException
+                || error instanceof IOException;
+    }
+
+    /**
+     * Tells whether a response status is transient, as for {@link #isTransient(Throwable)}.
+     *
+     * @param status the status of a downstream response
+     * @return true if the call is worth retrying
+     */
+    public static boolean isTransient(int status) {
+        return status == HttpStatus.REQUEST_TIMEOUT.value()
+                || status == HttpStatus.TOO_MANY_REQUESTS.value()
+                || (status >= 500 && status != HttpStatus.NOT_IMPLEMENTED.value());
+    }
+}
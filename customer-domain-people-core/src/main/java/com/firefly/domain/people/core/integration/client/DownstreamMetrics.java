@@ -0,0 +1,189 @@
+package com.firefly.domain.people.core.integration.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpRequestDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes the latency, concurrency, errors and payload sizes of customer-mgmt calls by
+ * {@code CustomersClient} operation.
+ *
+ * Every call wrapped with {@link #record(String, Mono)} is timed as {@value #CALL_TIMER} tagged
+ * by operation and outcome, the status class of the response or the kind of error; it is
+ * counted as in flight in the {@value #IN_FLIGHT_GAUGE} gauge until it settles, and a failed
+ * call is counted as {@value #ERROR_COUNTER}. The operation is bound to the Reactor context of
+ * the call, so that the {@link #filter()} of the WebClient records the bytes sent and received
+ * by every attempt as the {@value #PAYLOAD_SUMMARY} summary, tagged by operation and direction.
+ */
+@Component
+public class DownstreamMetrics {
+
+    static final String CALL_TIMER = "people.downstream.calls";
+    static final String IN_FLIGHT_GAUGE = "people.downstream.calls.in.flight";
+    static final String ERROR_COUNTER = "people.downstream.calls.errors";
+    static final String PAYLOAD_SUMMARY = "people.downstream.calls.payload";
+
+    static final String UNKNOWN_OPERATION = "unknown";
+
+    private static final String CONTEXT_KEY = DownstreamMetrics.class.getName();
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    public DownstreamMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Instruments one customer-mgmt call.
+     *
+     * @param operation the {@code CustomersClient} operation making the call
+     * @param call the call
+     * @return the call, instrumented
+     */
+    public <T> Mono<ResponseEntity<T>> record(String operation, Mono<ResponseEntity<T>> call) {
+        return Mono.defer(() -> {
+                    AtomicInteger running = inFlight(operation);
+                    running.incrementAndGet();
+                    long startNanos = System.nanoTime();
+                    AtomicBoolean done = new AtomicBoolean();
+                    return call
+                            .doOnSuccess(response -> {
+                                if (done.compareAndSet(false, true)) {
+                                    String outcome = response == null ? "empty" : statusClass(response.getStatusCode().value());
+                                    finish(operation, outcome, running, startNanos);
+                                }
+                            })
+                            .doOnError(error -> {
+                                if (done.compareAndSet(false, true)) {
+                                    String outcome = outcomeOf(error);
+                                    finish(operation, outcome, running, startNanos);
+                                    errorCounter(operation, outcome).increment();
+                                }
+                            })
+                            .doOnCancel(() -> {
+                                if (done.compareAndSet(false, true)) {
+                                    finish(operation, "cancelled", running, startNanos);
+                                }
+                            });
+                })
+                .contextWrite(Context.of(CONTEXT_KEY, operation));
+    }
+
+    /**
+     * @return a filter recording the request and response payload sizes of WebClient calls
+     */
+    public ExchangeFilterFunction filter() {
+        return (request, next) -> Mono.deferContextual(ctx -> {
+            String operation = ctx.getOrDefault(CONTEXT_KEY, UNKNOWN_OPERATION);
+            ClientRequest counted = ClientRequest.from(request)
+                    .body((outputMessage, context) -> request.body().insert(new ClientHttpRequestDecorator(outputMessage) {
+                        @Override
+                        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                            AtomicLong bytes = new AtomicLong();
+                            return super.writeWith(Flux.from(body)
+                                            .doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount())))
+                                    .doOnSuccess(ignored -> payloadSummary(operation, "request").record(bytes.get()));
+                        }
+                    }, context))
+                    .build();
+            return next.exchange(counted)
+                    .map(response -> {
+                        AtomicLong bytes = new AtomicLong();
+                        return response.mutate()
+                                .body(body -> body
+                                        .doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount()))
+                                        .doOnComplete(() -> payloadSummary(operation, "response").record(bytes.get())))
+                                .build();
+                    });
+        });
+    }
+
+    private void finish(String operation, String outcome, AtomicInteger running, long startNanos) {
+        running.decrementAndGet();
+        Timer.builder(CALL_TIMER)
+                .description("Latency of customer-mgmt calls by CustomersClient operation")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private AtomicInteger inFlight(String operation) {
+        return inFlight.computeIfAbsent(operation, name -> {
+            AtomicInteger running = new AtomicInteger();
+            Gauge.builder(IN_FLIGHT_GAUGE, running, AtomicInteger::get)
+                    .description("customer-mgmt calls currently in flight by CustomersClient operation")
+                    .tag("operation", name)
+                    .register(meterRegistry);
+            return running;
+        });
+    }
+
+    private Counter errorCounter(String operation, String outcome) {
+        return Counter.builder(ERROR_COUNTER)
+                .description("Failed customer-mgmt calls by CustomersClient operation and status class")
+                .tag("operation", operation)
+                .tag("status", outcome)
+                .register(meterRegistry);
+    }
+
+    private DistributionSummary payloadSummary(String operation, String direction) {
+        return DistributionSummary.builder(PAYLOAD_SUMMARY)
+                .description("Size of customer-mgmt request and response bodies by CustomersClient operation")
+                .baseUnit("bytes")
+                .tag("operation", operation)
+                .tag("direction", direction)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static String statusClass(int status) {
+        return (status / 100) + "xx";
+    }
+
+    private static String outcomeOf(Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            return statusClass(responseException.getStatusCode().value());
+        }
+        if (error instanceof DownstreamRejectedException) {
+            return "rejected";
+        }
+        if (error instanceof DeadlineExceededException) {
+            return "deadline";
+        }
+        if (error instanceof TimeoutException) {
+            return "timeout";
+        }
+        if (error instanceof WebClientRequestException || error instanceof IOException) {
+            return "io";
+        }
+        return "other";
+    }
+}
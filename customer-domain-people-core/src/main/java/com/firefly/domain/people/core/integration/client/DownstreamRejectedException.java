@@ -0,0 +1,13 @@
+package com.firefly.domain.people.core.integration.client;
+
+/**
+ * Raised instead of sending a call to customer-mgmt when the adaptive concurrency limit is
+ * reached or the circuit breaker of the target resource is open. It is not transient in the
+ * sense of {@link DownstreamErrors#isTransient(Throwable)}, so shed calls are not retried.
+ */
+public class DownstreamRejectedException extends RuntimeException {
+
+    public DownstreamRejectedException(String message) {
+        super(message);
+    }
+}
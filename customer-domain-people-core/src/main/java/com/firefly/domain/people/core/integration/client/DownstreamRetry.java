@@ -0,0 +1,121 @@
+package com.firefly.domain.people.core.integration.client;
+
+import com.firefly.domain.people.core.integration.properties.CustomerMgmtProperties;
+import com.firefly.domain.people.core.utils.RetryBudget;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retries customer-mgmt calls that failed transiently.
+ *
+ * Only calls that are safe to send twice are retried: reads, puts and deletes, and writes that
+ * carry an {@value IdempotencyKey#HEADER}. A call answered with a transient status (see
+ * {@link DownstreamErrors#isTransient(int)}) or failing with a connection error is sent again
+ * after an exponential backoff with full jitter, so retries of calls that failed together do not
+ * arrive together. Every retry is paid from a {@link RetryBudget} shared by all calls, which
+ * every call tops up by the budget ratio: during an outage retries add at most that share of
+ * load. Retries are counted as {@value #RETRIES_COUNTER} by api and outcome, and the tokens left as
+ * the {@value #BUDGET_GAUGE} gauge.
+ */
+@Component
+public class DownstreamRetry {
+
+    static final String RETRIES_COUNTER = "people.downstream.retries";
+    static final String BUDGET_GAUGE = "people.downstream.retry.budget";
+
+    private static final Set<HttpMethod> IDEMPOTENT_METHODS =
+            Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS, HttpMethod.PUT, HttpMethod.DELETE);
+
+    private final CustomerMgmtProperties.Retry properties;
+    private final MeterRegistry meterRegistry;
+    private final RetryBudget budget;
+
+    @Autowired
+    public DownstreamRetry(CustomerMgmtProperties customerMgmtProperties, MeterRegistry meterRegistry) {
+        this.properties = customerMgmtProperties.getRetry();
+        this.meterRegistry = meterRegistry;
+        this.budget = new RetryBudget(properties.getBudgetRatio(), properties.getMaxBudget());
+        Gauge.builder(BUDGET_GAUGE, budget, RetryBudget::tokens)
+                .description("Retries towards customer-mgmt that can currently be sent")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return a filter retrying WebClient calls as described above
+     */
+    public ExchangeFilterFunction filter() {
+        return (request, next) -> {
+            if (!properties.isEnabled() || properties.getMaxAttempts() <= 0 || !isRetryable(request)) {
+                return next.exchange(request);
+            }
+            return Mono.defer(() -> {
+                budget.deposit();
+                return exchange(request, next, CustomerMgmtGuard.resourceOf(request.url()), 0);
+            });
+        };
+    }
+
+    private Mono<ClientResponse> exchange(ClientRequest request, ExchangeFunction next, String api, int retries) {
+        return next.exchange(request)
+                .materialize()
+                .flatMap(signal -> {
+                    ClientResponse response = signal.get();
+                    if (response != null && DownstreamErrors.isTransient(response.statusCode().value())
+                            && mayRetry(api, retries)) {
+                        return response.releaseBody()
+                                .then(retryAfterBackoff(request, next, api, retries));
+                    }
+                    Throwable error = signal.getThrowable();
+                    if (error != null && DownstreamErrors.isTransient(error) && mayRetry(api, retries)) {
+                        return retryAfterBackoff(request, next, api, retries);
+                    }
+                    return Mono.just(signal).<ClientResponse>dematerialize();
+                });
+    }
+
+    private Mono<ClientResponse> retryAfterBackoff(ClientRequest request, ExchangeFunction next, String api, int retries) {
+        return Mono.delay(backoff(retries))
+                .then(Mono.defer(() -> exchange(request, next, api, retries + 1)));
+    }
+
+    private boolean mayRetry(String api, int retries) {
+        if (retries >= properties.getMaxAttempts()) {
+            return false;
+        }
+        boolean allowed = budget.tryWithdraw();
+        counter(api, allowed ? "sent" : "budget-exhausted").increment();
+        return allowed;
+    }
+
+    private Duration backoff(int retries) {
+        long ceiling = Math.min(properties.getMaxBackoff().toNanos(),
+                properties.getInitialBackoff().toNanos() << Math.min(retries, 20));
+        return Duration.ofNanos(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+
+    private static boolean isRetryable(ClientRequest request) {
+        return IDEMPOTENT_METHODS.contains(request.method())
+                || request.headers().containsKey(IdempotencyKey.HEADER);
+    }
+
+    private Counter counter(String api, String outcome) {
+        return Counter.builder(RETRIES_COUNTER)
+                .description("Retries of customer-mgmt calls, sent or refused by the retry budget")
+                .tag("api", api)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,43 @@
+package com.firefly.domain.people.core.integration.client;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.UUID;
+
+/**
+ * Carries the X-Idempotency-Key of a downstream write through the Reactor context.
+ *
+ * Callers that can retry a write (saga steps) bind a deterministic key with {@link #of(String)};
+ * the client resolves it with {@link #current()} and falls back to a random key for callers
+ * that do not bind one.
+ */
+public final class IdempotencyKey {
+
+    public static final String HEADER = "X-Idempotency-Key";
+
+    private static final String CONTEXT_KEY = IdempotencyKey.class.getName();
+
+    private IdempotencyKey() {
+    }
+
+    /**
+     * Creates a Reactor context binding the given idempotency key.
+     *
+     * @param key the idempotency key to send downstream
+     * @return a context to be applied with {@code contextWrite}
+     */
+    public static Context of(String key) {
+        return Context.of(CONTEXT_KEY, key);
+    }
+
+    /**
+     * Resolves the idempotency key bound to the current subscription.
+     *
+     * @return a Mono with the bound key, or a random key if none was bound
+     */
+    public static Mono<String> current() {
+        return Mono.deferContextual(ctx -> Mono.just(ctx.<String>getOrEmpty(CONTEXT_KEY)
+                .orElseGet(() -> UUID.randomUUID().toString())));
+    }
+}
@@ -0,0 +1,131 @@
+package com.firefly.domain.people.core.integration.client;
+
+import com.firefly.domain.people.core.integration.properties.CustomerMgmtProperties;
+import com.firefly.domain.people.core.utils.RetryBudget;
+import com.firefly.domain.people.core.utils.RollingPercentile;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Hedges idempotent customer-mgmt reads.
+ *
+ * When a read has not answered after the configured percentile of the recent latencies of its
+ * operation, a second identical read is sent and the first answer wins; the other one is
+ * cancelled. Hedges are paid from a {@link RetryBudget} that every read tops up by the budget
+ * ratio, so they never exceed that share of the reads. The latency recorded for an operation is
+ * the time until its first answer, whichever read gave it, so reads overtaken by their hedge still
+ * count as slow. A failing read is ignored while the other one is in flight; the call fails with
+ * the error of the original read once no read is left. Sent and winning hedges are counted as
+ * {@value #HEDGES_COUNTER}.
+ */
+@Component
+public class ReadHedger {
+
+    static final String HEDGES_COUNTER = "people.downstream.hedges";
+
+    private final CustomerMgmtProperties.Hedging properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RollingPercentile> latencies = new ConcurrentHashMap<>();
+    private final RetryBudget budget;
+
+    @Autowired
+    public ReadHedger(CustomerMgmtProperties customerMgmtProperties, MeterRegistry meterRegistry) {
+        this.properties = customerMgmtProperties.getHedging();
+        this.meterRegistry = meterRegistry;
+        this.budget = new RetryBudget(properties.getBudgetRatio(), properties.getMaxBudget());
+    }
+
+    /**
+     * Runs a read, hedged if hedging is enabled and enough latencies of the operation are known.
+     *
+     * @param operation the read operation, whose latencies set the hedging delay
+     * @param read supplies the read; called once more for the hedge
+     * @return a Mono with the first answer
+     */
+    public <T> Mono<T> hedge(String operation, Supplier<Mono<T>> read) {
+        if (!properties.isEnabled()) {
+            return Mono.defer(read);
+        }
+        return Mono.defer(() -> {
+            RollingPercentile latency = latencies.computeIfAbsent(operation, name -> new RollingPercentile(
+                    properties.getWindowSize(), properties.getPercentile(), properties.getWindowSize() / 10 + 1,
+                    properties.getMinSamples()));
+            budget.deposit();
+
+            long start = System.nanoTime();
+            long delayNanos = latency.value();
+            if (delayNanos < 0) {
+                return Mono.defer(read)
+                        .doOnSuccess(value -> latency.record(System.nanoTime() - start));
+            }
+            Race race = new Race();
+            Mono<T> original = Mono.defer(read)
+                    .onErrorResume(error -> race.originalFailed(error) ? Mono.never() : Mono.error(error));
+            Duration delay = Duration.ofNanos(Math.max(delayNanos, properties.getMinDelay().toNanos()));
+            Mono<T> hedge = Mono.delay(delay)
+                    .flatMap(tick -> {
+                        if (!budget.tryWithdraw()) {
+                            return Mono.<T>never();
+                        }
+                        race.hedgeSent();
+                        counter(operation, "sent").increment();
+                        return Mono.defer(read)
+                                .doOnSuccess(value -> counter(operation, "won").increment())
+                                .onErrorResume(error -> {
+                                    Throwable originalError = race.hedgeFailed();
+                                    return originalError != null ? Mono.error(originalError) : Mono.never();
+                                });
+                    });
+            return Mono.firstWithSignal(original, hedge)
+                    .doOnSuccess(value -> latency.record(System.nanoTime() - start));
+        });
+    }
+
+    private Counter counter(String operation, String outcome) {
+        return Counter.builder(HEDGES_COUNTER)
+                .description("Hedged customer-mgmt reads sent, and those answering first")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Which reads of a hedged call have failed, so that the first failure waits for the other read.
+     */
+    private static final class Race {
+
+        private boolean hedgeInFlight;
+        private Throwable originalError;
+
+        synchronized void hedgeSent() {
+            hedgeInFlight = true;
+        }
+
+        /**
+         * @return true if the hedge is in flight and the call waits for it
+         */
+        synchronized boolean originalFailed(Throwable error) {
+            if (!hedgeInFlight) {
+                return false;
+            }
+            originalError = error;
+            return true;
+        }
+
+        /**
+         * @return the error of the original read if it already failed, to fail the call with
+         */
+        synchronized Throwable hedgeFailed() {
+            hedgeInFlight = false;
+            return originalError;
+        }
+    }
+}
@@ -3,22 +3,41 @@ package com.firefly.domain.people.core.integration.client.impl;
 import com.firefly.core.customer.sdk.api.*;
 import com.firefly.core.customer.sdk.invoker.ApiClient;
 import com.firefly.core.customer.sdk.model.*;
+import com.firefly.domain.people.core.integration.client.CustomerLookupCache;
 import com.firefly.domain.people.core.integration.client.CustomersClient;
+import com.firefly.domain.people.core.integration.client.Deadline;
+import com.firefly.domain.people.core.integration.client.DownstreamMetrics;
+import com.firefly.domain.people.core.integration.client.IdempotencyKey;
+import com.firefly.domain.people.core.integration.client.ReadHedger;
 import com.firefly.domain.people.core.integration.mapper.CustomersMapper;
+import com.firefly.domain.people.core.utils.SingleFlight;
 import com.firefly.domain.people.interfaces.dto.commands.*;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
-import java.util.UUID;
+import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Implementation of CustomersClient that integrates with the customer management system SDK.
  * 
  * This adapter class bridges the domain layer with the external customer management APIs,
  * handling the mapping between domain commands and SDK DTOs. It manages multiple API clients
- * for different customer-related entities and ensures idempotency through UUID generation.
+ * for different customer-related entities and sends every create and update with the
+ * idempotency key bound by the caller (see {@link IdempotencyKey}), so a retried write is
+ * recognised downstream instead of being applied twice.
+ * 
+ * Party, natural-person and legal-entity lookups go through the {@link CustomerLookupCache},
+ * which our own updates and deletes of those entities invalidate and which shares one load
+ * between concurrent identical lookups. With the cache disabled, concurrent identical lookups
+ * are coalesced into one call with a {@link SingleFlight} instead. The reads that do reach
+ * customer-mgmt are hedged by the {@link ReadHedger} when hedging is enabled. Every call that
+ * reaches customer-mgmt, hedges included, is instrumented by operation with {@link DownstreamMetrics}.
  * 
  * The implementation delegates operations to the appropriate SDK API clients while maintaining
  * reactive programming patterns throughout the integration layer.
@@ -26,6 +45,15 @@ import java.util.UUID;
 @Service
 public class CustomersClientImpl implements CustomersClient {
 
+    static final String READS_REQUESTED = "people.downstream.reads.requested";
+    static final String READS_EXECUTED = "people.downstream.reads.executed";
+
+    /**
+     * Email contacts of a party; the SDK only generates writes for this resource.
+     */
+    static final String EMAIL_CONTACTS_PATH = "/api/v1/parties/{partyId}/email-contacts";
+
+    private final ApiClient apiClient;
     private final PartiesApi partyApi;
     private final NaturalPersonsApi naturalPersonApi;
     private final LegalEntitiesApi legalEntityApi;
@@ -41,9 +69,17 @@ public class CustomersClientImpl implements CustomersClient {
     private final PartyRelationshipsApi partyRelationshipsApi;
     private final PartyGroupMembershipsApi partyGroupMembershipsApi;
     private final CustomersMapper customersMapper;
+    private final CustomerLookupCache lookupCache;
+    private final ReadHedger readHedger;
+    private final DownstreamMetrics downstreamMetrics;
+    private final SingleFlight<Long, ResponseEntity<PartyDTO>> partyReads = new SingleFlight<>();
+    private final SingleFlight<Long, ResponseEntity<NaturalPersonDTO>> naturalPersonReads = new SingleFlight<>();
+    private final SingleFlight<Long, ResponseEntity<LegalEntityDTO>> legalEntityReads = new SingleFlight<>();
 
     @Autowired
-    public CustomersClientImpl(ApiClient apiClient, CustomersMapper customersMapper) {
+    public CustomersClientImpl(ApiClient apiClient, CustomersMapper customersMapper, CustomerLookupCache lookupCache,
+                               ReadHedger readHedger, DownstreamMetrics downstreamMetrics, MeterRegistry meterRegistry) {
+        this.apiClient = apiClient;
         this.partyApi = new PartiesApi(apiClient);
         this.naturalPersonApi = new NaturalPersonsApi(apiClient);
         this.legalEntityApi = new LegalEntitiesApi(apiClient);
@@ -59,258 +95,306 @@ public class CustomersClientImpl implements CustomersClient {
         this.partyRelationshipsApi = new PartyRelationshipsApi(apiClient);
         this.partyGroupMembershipsApi = new PartyGroupMembershipsApi(apiClient);
         this.customersMapper = customersMapper;
+        this.lookupCache = lookupCache;
+        this.readHedger = readHedger;
+        this.downstreamMetrics = downstreamMetrics;
+        registerReadMeters(meterRegistry, "getParty", partyReads);
+        registerReadMeters(meterRegistry, "getNaturalPerson", naturalPersonReads);
+        registerReadMeters(meterRegistry, "getLegalEntity", legalEntityReads);
+    }
+
+    /**
+     * Publishes the reads requested and the reads actually run of a coalesced lookup; their
+     * ratio is the share of reads saved by coalescing. Both stay at zero while the lookup cache
+     * is enabled, whose own meters then count the loads.
+     */
+    private static void registerReadMeters(MeterRegistry meterRegistry, String operation, SingleFlight<?, ?> reads) {
+        FunctionCounter.builder(READS_REQUESTED, reads, SingleFlight::requests)
+                .description("Downstream reads requested, including those joining an identical read in flight")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        FunctionCounter.builder(READS_EXECUTED, reads, SingleFlight::executions)
+                .description("Downstream reads run after coalescing")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Joins an identical lookup in flight when the lookup cache, which already shares its loads,
+     * is disabled. The shared call runs without the deadline of the caller that started it; the
+     * deadline of each caller only bounds its own wait.
+     */
+    private <T> Mono<ResponseEntity<T>> coalesced(SingleFlight<Long, ResponseEntity<T>> reads, Long id,
+                                                  Supplier<Mono<ResponseEntity<T>>> lookup) {
+        if (lookupCache.isEnabled() || id == null) {
+            return Mono.defer(lookup);
+        }
+        return Deadline.waitFor(reads.execute(id, () -> lookup.get().contextWrite(Deadline.unbind())), "coalesced lookup");
     }
 
     @Override
     public Mono<ResponseEntity<PartyDTO>> createParty(RegisterPartyCommand registerPartyCommand) {
-        String xIdempotencyKey = UUID.randomUUID().toString();
         PartyDTO partyDTO = customersMapper.toPartyDTO(registerPartyCommand);
-        return partyApi.createPartyWithHttpInfo(partyDTO, xIdempotencyKey);
+        return downstreamMetrics.record("createParty", IdempotencyKey.current()
+                .flatMap(xIdempotencyKey -> partyApi.createPartyWithHttpInfo(partyDTO, xIdempotencyKey)));
     }
 
     @Override
     public Mono<ResponseEntity<Void>> deleteParty(Long id) {
-        return partyApi.deletePartyWithHttpInfo(id);
+        return downstreamMetrics.record("deleteParty", partyApi.deletePartyWithHttpInfo(id))
+                .doFinally(signal -> lookupCache.invalidateParty(id));
     }
 
     @Override
     public Mono<ResponseEntity<PartyDTO>> getParty(Long id) {
-        return partyApi.getPartyByIdWithHttpInfo(id);
+        return coalesced(partyReads, id, () -> lookupCache.party(id, key ->
+                readHedger.hedge("getParty", () ->
+                        downstreamMetrics.record("getParty", partyApi.getPartyByIdWithHttpInfo(key)))));
     }
 
     @Override
     public Mono<ResponseEntity<NaturalPersonDTO>> createNaturalPerson(Long partyId, RegisterNaturalPersonCommand registerNaturalPersonCommand) {
-        String xIdempotencyKey = UUID.randomUUID().toString();
         NaturalPersonDTO naturalPersonDTO = customersMapper.toNaturalPersonDTO(registerNaturalPersonCommand);
         naturalPersonDTO.setPartyId(partyId);
-        return naturalPersonApi.createNaturalPersonWithHttpInfo(partyId, naturalPersonDTO, xIdempotencyKey);
+        return downstreamMetrics.record("createNaturalPerson", IdempotencyKey.current()
+                .flatMap(xIdempotencyKey -> naturalPersonApi.createNaturalPersonWithHttpInfo(partyId, naturalPersonDTO, xIdempotencyKey)));
     }
 
     @Override
     public Mono<ResponseEntity<Void>> deleteNaturalPerson(Long partyId, Long id) {
-        return naturalPersonApi.deleteNaturalPersonWithHttpInfo(partyId, id);
+        return downstreamMetrics.record("deleteNaturalPerson", naturalPersonApi.deleteNaturalPersonWithHttpInfo(partyId, id))
+                .doFinally(signal -> lookupCache.invalidateNaturalPerson(partyId));
     }
 
     @Override
     public Mono<ResponseEntity<NaturalPersonDTO>> getNaturalPerson(Long id) {
-        return naturalPersonApi.getNaturalPersonByPartyIdWithHttpInfo(id);
+        return coalesced(naturalPersonReads, id, () -> lookupCache.naturalPerson(id, key ->
+                readHedger.hedge("getNaturalPerson", () ->
+                        downstreamMetrics.record("getNaturalPerson", naturalPersonApi.getNaturalPersonByPartyIdWithHttpInfo(key)))));
     }
 
     @Override
     public Mono<ResponseEntity<NaturalPersonDTO>> updateNaturalPerson(Long partyId, Long naturalPersonId, String newName) {
-        String xIdempotencyKey = UUID.randomUUID().toString();
         NaturalPersonDTO naturalPersonDTO = new NaturalPersonDTO();
         naturalPersonDTO.setPartyId(partyId);
         naturalPersonDTO.setGivenName(newName);
-        return naturalPersonApi.updateNaturalPersonWithHttpInfo(partyId, naturalPersonId, naturalPersonDTO, xIdempotencyKey);
+        return downstreamMetrics.record("updateNaturalPerson", IdempotencyKey.current()
+                .flatMap(xIdempotencyKey -> naturalPersonApi.updateNaturalPersonWithHttpInfo(partyId, naturalPersonId, naturalPersonDTO, xIdempotencyKey)))
+                .doFinally(signal -> lookupCache.invalidateNaturalPerson(partyId));
     }
 
     @Override
     public Mono<ResponseEntity<LegalEntityDTO>> createLegalPerson(Long partyId, RegisterLegalPersonCommand registerLegalPersonCommand) {
-        String xIdempotencyKey = UUID.randomUUID().toString();
         LegalEntityDTO legalEntityDTO = customersMapper.toLegalPersonDTO(registerLegalPersonCommand);
         legalEntityDTO.setPartyId(partyId);
-        return legalEntityApi.createLegalEntityWithHttpInfo(partyId, legalEntityDTO, xIdempotencyKey);
+        return downstreamMetrics.record("createLegalPerson", IdempotencyKey.current()
+                .flatMap(xIdempotencyKey -> legalEntityApi.createLegalEntityWithHttpInfo(partyId, legalEntityDTO, xIdempotencyKey)));
     }
 
     @Override
     public Mono<ResponseEntity<Void>> deleteLegalEntity(Long partyId, Long id) {
-        return legalEntityApi.deleteLegalEntityWithHttpInfo(partyId, id);
+        return downstreamMetrics.record("deleteLegalEntity", legalEntityApi.deleteLegalEntityWithHttpInfo(partyId, id))
+                .doFinally(signal -> lookupCache.invalidateLegalEntity(partyId));
     }
 
     @Override
     public Mono<ResponseEntity<LegalEntityDTO>> getLegalEntity(Long id) {
-        return legalEntityApi.getLegalEntityByPartyIdWithHttpInfo(id);
+        return coalesced(legalEntityReads, id, () -> lookupCache.legalEntity(id, key ->
+                readHedger.hedge("getLegalEntity", () ->
+                        downstreamMetrics.record("getLegalEntity", legalEntityApi.getLegalEntityByPartyIdWithHttpInfo(key)))));
     }
 
     @Override
     public Mono<ResponseEntity<LegalEntityDTO>> updateLegalEntity(Long partyId, Long legalEntityId, String newName) {
-        String xIdempotencyKey = UUID.randomUUID().toString();
         LegalEntityDTO legalEntityDTO = new LegalEntityDTO();
         legalEntityDTO.setPartyId(partyId);
         legalEntityDTO.setLegalName(newName);
-        return legalEntityApi.updateLegalEntityWithHttpInfo(partyId, legalEntityId, legalEntityDTO, xIdempotencyKey);
+        return downstreamMetrics.record("updateLegalEntity", IdempotencyKey.current()
+                .flatMap(xIdempotencyKey -> legalEntityApi.updateLegalEntityWithHttpInfo(partyId, legalEntityId, legalEntityDTO, xIdempotencyKey)))
+                .doFinally(signal -> lookupCache.invalidateLegalEntity(partyId));
     }
 
     @Override
     public Mono<ResponseEntity<PartyStatusDTO>> createPartyStatus(Long partyId, RegisterPartyStatusEntryCommand statusEntryCommand) {
-        String xIdempotencyKey = UUID.randomUUID().toString();
         PartyStatusDTO partyStatusDTO = customersMapper.toPartyStatusDTO(statusEntryCommand);
         partyStatusDTO.setPartyId(partyId);
-        return partyStatusApi.createPartyStatusWithHttpInfo(partyId, partyStatusDTO, xIdempotencyKey);
+        return downstreamMetrics.record("createPartyStatus", IdempotencyKey.current()
+                .flatMap(xIdempotencyKey -> partyStatusApi.createPartyStatusWithHttpInfo(partyId, partyStatusDTO, xIdempotencyKey)));
     }
 
     @Override
     public Mono<ResponseEntity<Void>> deletePartyStatus(Long partyId, Long partyStatusId) {
-        return partyStatusApi.deletePartyStatusWithHttpInfo(partyId, partyStatusId);
+        return downstreamMetrics.record("deletePartyStatus", partyStatusApi.deletePartyStatusWithHttpInfo(partyId, partyStatusId));
     }
 
     @Override
     public Mono<ResponseEntity<PartyStatusDTO>> updatePartyStatus(Long partyId, RegisterPartyStatusEntryCommand statusEntryCommand) {
-        String xIdempotencyKey = UUID.randomUUID().toString();
         PartyStatusDTO partyStatusDTO = customersMapper.toPartyStatusDTO(statusEntryCommand);
         partyStatusDTO.setPartyId(partyId);
-        return partyStatusApi.updatePartyStatusWithHttpInfo(partyId, partyStatusDTO, xIdempotencyKey);
+        return downstreamMetrics.record("updatePartyStatus", IdempotencyKey.current()
+                .flatMap(xIdempotencyKey -> partyStatusApi.updatePartyStatusWithHttpInfo(partyId, partyStatusDTO, xIdempotencyKey)));
     }
 
     @Override
     public Mono<ResponseEntity<PoliticallyExposedPersonDTO>> createPep(Long partyId, RegisterPepCommand pepCommand) {
-        String xIdempotencyKey = UUID.randomUUID().toString();
         PoliticallyExposedPersonDTO politicallyExposedPersonDTO = customersMapper.toPepDTO(pepCommand);
         politicallyExposedPersonDTO.setPartyId(partyId);
-        return pepApi.createPoliticallyExposedPersonWithHttpInfo(partyId, politicallyExposedPersonDTO, xIdempotencyKey);
+        return downstreamMetrics.record("createPep", IdempotencyKey.current()
+                .flatMap(xIdempotencyKey -> pepApi.createPoliticallyExposedPersonWithHttpInfo(partyId, politicallyExposedPersonDTO, xIdempotencyKey)));
     }
 
     @Override
     public Mono<ResponseEntity<Void>> deletePep(Long partyId, Long pepId) {
-        return pepApi.deletePoliticallyExposedPersonWithHttpInfo(partyId, pepId);
+        return downstreamMetrics.record("deletePep", pepApi.deletePoliticallyExposedPersonWithHttpInfo(partyId, pepId));
     }
 
     @Override
     public Mono<ResponseEntity<IdentityDocumentDTO>> createIdentityDocument(Long partyId, RegisterIdentityDocumentCommand identityDocumentCommand) {
-        String xIdempotencyKey = UUID.randomUUID().toString();
         IdentityDocumentDTO identityDocumentDTO = customersMapper.toIdentityDocumentDTO(identityDocumentCommand);
         identityDocumentDTO.setPartyId(partyId);
-        return identityDocumentApi.createIdentityDocumentWithHttpInfo(partyId, identityDocumentDTO, xIdempotencyKey);
+        return downstreamMetrics.record("createIdentityDocument", IdempotencyKey.current()
+                .flatMap(xIdempotencyKey -> identityDocumentApi.createIdentityDocumentWithHttpInfo(partyId, identityDocumentDTO, xIdempotencyKey)));
     }
 
     @Override
     public Mono<ResponseEntity<Void>> deleteIdentityDocument(Long partyId, Long identityDocumentId) {
-        return identityDocumentApi.deleteIdentityDocumentWithHttpInfo(partyId, identityDocumentId);
+        return downstreamMetrics.record("deleteIdentityDocument", identityDocumentApi.deleteIdentityDocumentWithHttpInfo(partyId, identityDocumentId));
     }
 
     @Override
     public Mono<ResponseEntity<AddressDTO>> createAddress(Long partyId, RegisterAddressCommand addressCommand) {
-        String xIdempotencyKey = UUID.randomUUID().toString();
         AddressDTO addressDTO = customersMapper.toAddressDTO(addressCommand);
         addressDTO.setPartyId(partyId);
-        return addressApi.createAddressWithHttpInfo(partyId, addressDTO, xIdempotencyKey);
+        return downstreamMetrics.record("createAddress", IdempotencyKey.current()
+                .flatMap(xIdempotencyKey -> addressApi.createAddressWithHttpInfo(partyId, addressDTO, xIdempotencyKey)));
     }
 
     @Override
     public Mono<ResponseEntity<Void>> deleteAddress(Long partyId, Long addressId) {
-        return addressApi.deleteAddressWithHttpInfo(partyId, addressId);
+        return downstreamMetrics.record("deleteAddress", addressApi.deleteAddressWithHttpInfo(partyId, addressId));
     }
 
     @Override
     public Mono<ResponseEntity<AddressDTO>> updateAddress(Long partyId, Long addressId, RegisterAddressCommand addressCommand) {
-        String xIdempotencyKey = UUID.randomUUID().toString();
         AddressDTO addressDTO = customersMapper.toAddressDTO(addressCommand);
         addressDTO.setPartyId(partyId);
-        return addressApi.updateAddressWithHttpInfo(partyId, addressId, addressDTO,xIdempotencyKey);
+        return downstreamMetrics.record("updateAddress", IdempotencyKey.current()
+                .flatMap(xIdempotencyKey -> addressApi.updateAddressWithHttpInfo(partyId, addressId, addressDTO, xIdempotencyKey)));
     }
 
     @Override
     public Mono<ResponseEntity<EmailContactDTO>> createEmail(Long partyId, RegisterEmailCommand emailCommand) {
-        String xIdempotencyKey = UUID.randomUUID().toString();
         EmailContactDTO emailContactDTO = customersMapper.toEmailDTO(emailCommand);
         emailContactDTO.setPartyId(partyId);
-        return emailApi.createEmailContactWithHttpInfo(partyId, emailContactDTO, xIdempotencyKey);
+        return downstreamMetrics.record("createEmail", IdempotencyKey.current()
+                .flatMap(xIdempotencyKey -> emailApi.createEmailContactWithHttpInfo(partyId, emailContactDTO, xIdempotencyKey)));
     }
 
     @Override
     public Mono<ResponseEntity<Void>> deleteEmail(Long partyId, Long emailId) {
-        return emailApi.deleteEmailContactWithHttpInfo(partyId, emailId);
+        return downstreamMetrics.record("deleteEmail", emailApi.deleteEmailContactWithHttpInfo(partyId, emailId));
     }
 
     @Override
     public Mono<ResponseEntity<EmailContactDTO>> updateEmail(Long partyId, Long emailId, RegisterEmailCommand emailCommand) {
-        String xIdempotencyKey = UUID.randomUUID().toString();
         EmailContactDTO emailContactDTO = customersMapper.toEmailDTO(emailCommand);
         emailContactDTO.setPartyId(partyId);
-        return emailApi.updateEmailContactWithHttpInfo(partyId, emailId, emailContactDTO, xIdempotencyKey);
+        return downstreamMetrics.record("updateEmail", IdempotencyKey.current()
+                .flatMap(xIdempotencyKey -> emailApi.updateEmailContactWithHttpInfo(partyId, emailId, emailContactDTO, xIdempotencyKey)));
+    }
+
+    @Override
+    public Mono<ResponseEntity<List<EmailContactDTO>>> getEmails(Long partyId) {
+        return downstreamMetrics.record("getEmails", apiClient.getWebClient().get()
+                .uri(apiClient.getBasePath() + EMAIL_CONTACTS_PATH, partyId)
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .toEntityList(EmailContactDTO.class));
     }
 
     @Override
     public Mono<ResponseEntity<PhoneContactDTO>> createPhone(Long partyId, RegisterPhoneCommand phoneCommand) {
-        String xIdempotencyKey = UUID.randomUUID().toString();
         PhoneContactDTO phoneContactDTO = customersMapper.toPhoneDTO(phoneCommand);
         phoneContactDTO.setPartyId(partyId);
-        return phoneApi.createPhoneContactWithHttpInfo(partyId, phoneContactDTO, xIdempotencyKey);
+        return downstreamMetrics.record("createPhone", IdempotencyKey.current()
+                .flatMap(xIdempotencyKey -> phoneApi.createPhoneContactWithHttpInfo(partyId, phoneContactDTO, xIdempotencyKey)));
     }
 
     @Override
     public Mono<ResponseEntity<Void>> deletePhone(Long partyId, Long phoneId) {
-        return phoneApi.deletePhoneContactWithHttpInfo(partyId, phoneId);
+        return downstreamMetrics.record("deletePhone", phoneApi.deletePhoneContactWithHttpInfo(partyId, phoneId));
     }
 
     @Override
     public Mono<ResponseEntity<PhoneContactDTO>> updatePhone(Long partyId, Long phoneId, RegisterPhoneCommand phoneCommand) {
-        String xIdempotencyKey = UUID.randomUUID().toString();
         PhoneContactDTO phoneContactDTO = customersMapper.toPhoneDTO(phoneCommand);
         phoneContactDTO.setPartyId(partyId);
-        return phoneApi.updatePhoneContactWithHttpInfo(partyId, phoneId, phoneContactDTO, xIdempotencyKey);
+        return downstreamMetrics.record("updatePhone", IdempotencyKey.current()
+                .flatMap(xIdempotencyKey -> phoneApi.updatePhoneContactWithHttpInfo(partyId, phoneId, phoneContactDTO, xIdempotencyKey)));
     }
 
     @Override
     public Mono<ResponseEntity<PartyEconomicActivityDTO>> createPartyEconomicActivity(Long partyId, RegisterEconomicActivityLinkCommand economicActivityLinkCommand) {
-        String xIdempotencyKey = UUID.randomUUID().toString();
         PartyEconomicActivityDTO partyEconomicActivityDTO = customersMapper.toPartyEconomicActivityDTO(economicActivityLinkCommand);
         partyEconomicActivityDTO.setPartyId(partyId);
-        return partyEconomicActivityApi.createPartyEconomicActivityWithHttpInfo(partyId,
-                partyEconomicActivityDTO,
-                xIdempotencyKey
-        );
+        return downstreamMetrics.record("createPartyEconomicActivity", IdempotencyKey.current()
+                .flatMap(xIdempotencyKey -> partyEconomicActivityApi.createPartyEconomicActivityWithHttpInfo(partyId, partyEconomicActivityDTO, xIdempotencyKey)));
     }
 
     @Override
     public Mono<ResponseEntity<Void>> deletePartyEconomicActivity(Long partyId, Long partyEconomicActivityId) {
-        return partyEconomicActivityApi.deletePartyEconomicActivityWithHttpInfo(partyId, partyEconomicActivityId);
+        return downstreamMetrics.record("deletePartyEconomicActivity", partyEconomicActivityApi.deletePartyEconomicActivityWithHttpInfo(partyId, partyEconomicActivityId));
     }
 
     @Override
     public Mono<ResponseEntity<ConsentDTO>> createConsent(Long partyId, RegisterConsentCommand consentCommand) {
-        String xIdempotencyKey = UUID.randomUUID().toString();
         ConsentDTO consentDTO = customersMapper.toConsentDTO(consentCommand);
         consentDTO.setPartyId(partyId);
-        return consentApi.createConsentWithHttpInfo(
-                partyId,
-                consentDTO,
-                xIdempotencyKey
-        );
+        return downstreamMetrics.record("createConsent", IdempotencyKey.current()
+                .flatMap(xIdempotencyKey -> consentApi.createConsentWithHttpInfo(partyId, consentDTO, xIdempotencyKey)));
     }
 
     @Override
     public Mono<ResponseEntity<Void>> deleteConsent(Long partyId, Long consentId) {
-        return consentApi.deleteConsentWithHttpInfo(partyId, consentId);
+        return downstreamMetrics.record("deleteConsent", consentApi.deleteConsentWithHttpInfo(partyId, consentId));
     }
 
     @Override
     public Mono<ResponseEntity<PartyProviderDTO>> createPartyProvider(Long partyId, RegisterPartyProviderCommand partyProviderCommand) {
-        String xIdempotencyKey = UUID.randomUUID().toString();
         PartyProviderDTO partyProviderDTO = customersMapper.toPartyProviderDTO(partyProviderCommand);
         partyProviderDTO.setPartyId(partyId);
-        return partyProvidersApi.createPartyProviderWithHttpInfo(partyId, partyProviderDTO, xIdempotencyKey);
+        return downstreamMetrics.record("createPartyProvider", IdempotencyKey.current()
+                .flatMap(xIdempotencyKey -> partyProvidersApi.createPartyProviderWithHttpInfo(partyId, partyProviderDTO, xIdempotencyKey)));
     }
 
     @Override
     public Mono<ResponseEntity<Void>> deletePartyProvider(Long partyId, Long partyProviderId) {
-        return partyProvidersApi.deletePartyProviderWithHttpInfo(partyId, partyProviderId);
+        return downstreamMetrics.record("deletePartyProvider", partyProvidersApi.deletePartyProviderWithHttpInfo(partyId, partyProviderId));
     }
 
     @Override
     public Mono<ResponseEntity<PartyRelationshipDTO>> createPartyRelationshipWithHttpInfo(Long partyId, RegisterPartyRelationshipCommand partyRelationshipCommand) {
-        String xIdempotencyKey = UUID.randomUUID().toString();
         PartyRelationshipDTO partyRelationshipDTO = customersMapper.toPartyRelationshipDTO(partyRelationshipCommand);
         partyRelationshipDTO.setFromPartyId(partyId);
-        return partyRelationshipsApi.createPartyRelationshipWithHttpInfo(partyId, partyRelationshipDTO, xIdempotencyKey);
+        return downstreamMetrics.record("createPartyRelationshipWithHttpInfo", IdempotencyKey.current()
+                .flatMap(xIdempotencyKey -> partyRelationshipsApi.createPartyRelationshipWithHttpInfo(partyId, partyRelationshipDTO, xIdempotencyKey)));
     }
 
     @Override
     public Mono<ResponseEntity<Void>> deletePartyRelationshipWithHttpInfo(Long partyId, Long partyRelationshipId) {
-        return partyRelationshipsApi.deletePartyRelationshipWithHttpInfo(partyId, partyRelationshipId);
+        return downstreamMetrics.record("deletePartyRelationshipWithHttpInfo", partyRelationshipsApi.deletePartyRelationshipWithHttpInfo(partyId, partyRelationshipId));
     }
 
     @Override
     public Mono<ResponseEntity<PartyGroupMembershipDTO>> createPartyGroupMembershipWithHttpInfo(Long partyId, RegisterPartyGroupMembershipCommand partyGroupMembershipCommand) {
-        String xIdempotencyKey = UUID.randomUUID().toString();
         PartyGroupMembershipDTO partyGroupMembershipDTO = customersMapper.toPartyGroupMembershipDTO(partyGroupMembershipCommand);
         partyGroupMembershipDTO.setPartyId(partyId);
-        return partyGroupMembershipsApi.createPartyGroupMembershipWithHttpInfo(partyId, partyGroupMembershipDTO, xIdempotencyKey);
+        return downstreamMetrics.record("createPartyGroupMembershipWithHttpInfo", IdempotencyKey.current()
+                .flatMap(xIdempotencyKey -> partyGroupMembershipsApi.createPartyGroupMembershipWithHttpInfo(partyId, partyGroupMembershipDTO, xIdempotencyKey)));
     }
 
     @Override
     public Mono<ResponseEntity<Void>> deletePartyGroupMembershipWithHttpInfo(Long partyId, Long partyGroupMembershipId) {
-        return partyGroupMembershipsApi.deletePartyGroupMembershipWithHttpInfo(partyId, partyGroupMembershipId);
+        return downstreamMetrics.record("deletePartyGroupMembershipWithHttpInfo", partyGroupMembershipsApi.deletePartyGroupMembershipWithHttpInfo(partyId, partyGroupMembershipId));
     }
 }
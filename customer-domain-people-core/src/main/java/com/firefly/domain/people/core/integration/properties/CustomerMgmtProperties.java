@@ -5,6 +5,10 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Configuration properties.
  * Maps the properties defined in application.yaml under api-configuration.
@@ -17,4 +21,339 @@ public class CustomerMgmtProperties {
 
     private String basePath;
 
-}
\ No newline at end of file
+    /**
+     * Base URLs (scheme, host and port) of the customer-mgmt instances calls are balanced across;
+     * the path of base-path is kept. When empty, every call goes to base-path.
+     */
+    private List<String> endpoints = new ArrayList<>();
+
+    private Balancer balancer = new Balancer();
+
+    /**
+     * HTTP version used towards customer-mgmt: HTTP11, H2 (HTTP/2 over TLS, falling back to
+     * HTTP/1.1) or H2C (HTTP/2 over cleartext with prior knowledge, for local stand-ins).
+     */
+    private Protocol protocol = Protocol.HTTP11;
+
+    private Pool pool = new Pool();
+
+    private Http2 http2 = new Http2();
+
+    private Tcp tcp = new Tcp();
+
+    private Cache cache = new Cache();
+
+    private Limiter limiter = new Limiter();
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    private Hedging hedging = new Hedging();
+
+    private Retry retry = new Retry();
+
+    private Profile profile = new Profile();
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        /**
+         * Maximum number of connections to customer-mgmt.
+         */
+        private int maxConnections = 500;
+
+        /**
+         * Maximum number of requests waiting for a connection; further ones fail immediately.
+         */
+        private int pendingAcquireMaxCount = 1_000;
+
+        /**
+         * Maximum time a request waits for a connection.
+         */
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+
+        /**
+         * Time after which an idle connection is closed.
+         */
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+
+        /**
+         * Time after which a connection is closed once released, however busy it has been.
+         */
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+
+        /**
+         * Interval of the background eviction of idle and expired connections; zero evicts them
+         * only when they are acquired.
+         */
+        private Duration evictInBackground = Duration.ofSeconds(30);
+
+        /**
+         * Whether the most recently released connection is reused first, which lets the idle
+         * ones expire under a falling load.
+         */
+        private boolean lifo = true;
+
+        /**
+         * Whether the pool publishes its reactor.netty.connection.provider meters.
+         */
+        private boolean metrics = true;
+    }
+
+    /**
+     * Settings of the HTTP/2 connection pool, which replace the connection limits of
+     * {@link Pool} when {@link #protocol} is H2 or H2C.
+     */
+    @Getter
+    @Setter
+    public static class Http2 {
+
+        /**
+         * Maximum number of streams (concurrent requests) multiplexed on one connection.
+         */
+        private int maxConcurrentStreams = 100;
+
+        /**
+         * Maximum number of HTTP/2 connections to customer-mgmt.
+         */
+        private int maxConnections = 4;
+
+        /**
+         * Number of HTTP/2 connections kept open while idle.
+         */
+        private int minConnections = 1;
+    }
+
+    @Getter
+    @Setter
+    public static class Tcp {
+
+        private Duration connectTimeout = Duration.ofSeconds(2);
+
+        /**
+         * Maximum time between the request being sent and the response headers being received.
+         */
+        private Duration responseTimeout = Duration.ofSeconds(10);
+
+        /**
+         * Whether connections are kept open between requests (HTTP keep-alive).
+         */
+        private boolean keepAlive = true;
+
+        /**
+         * Whether TCP keep-alive probes are sent on idle connections (SO_KEEPALIVE).
+         */
+        private boolean soKeepAlive = true;
+
+        private boolean noDelay = true;
+    }
+
+    /**
+     * Settings of the party, natural-person and legal-entity lookup cache.
+     */
+    @Getter
+    @Setter
+    public static class Cache {
+
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of parties kept per lookup.
+         */
+        private long maximumSize = 100_000;
+
+        /**
+         * Time after which a cached lookup is read again, bounding the staleness of changes
+         * made by other services.
+         */
+        private Duration timeToLive = Duration.ofMinutes(10);
+    }
+
+    /**
+     * Settings of the adaptive (AIMD) limit of concurrent calls to customer-mgmt.
+     */
+    @Getter
+    @Setter
+    public static class Limiter {
+
+        private boolean enabled = true;
+
+        private int initialLimit = 100;
+
+        private int minLimit = 10;
+
+        private int maxLimit = 1_000;
+
+        /**
+         * Factor applied to the limit on every slow or overloaded call.
+         */
+        private double backoffRatio = 0.9;
+
+        /**
+         * Latency above which a successful call is taken as a sign of overload.
+         */
+        private Duration latencyThreshold = Duration.ofMillis(500);
+    }
+
+    /**
+     * Settings of the circuit breakers, one per customer-mgmt resource (parties, addresses...).
+     */
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+
+        private boolean enabled = true;
+
+        /**
+         * Number of most recent calls whose outcome is considered.
+         */
+        private int windowSize = 100;
+
+        /**
+         * Number of calls needed in the window before the breaker may open.
+         */
+        private int minimumCalls = 20;
+
+        /**
+         * Failure rate of the window, between 0 and 1, at which the breaker opens.
+         */
+        private double failureRateThreshold = 0.5;
+
+        /**
+         * Time the breaker stays open before letting trial calls through.
+         */
+        private Duration openDuration = Duration.ofSeconds(10);
+
+        /**
+         * Number of trial calls that must succeed to close the breaker again.
+         */
+        private int halfOpenCalls = 5;
+    }
+
+    /**
+     * Settings of the hedging of party, natural-person and legal-entity reads.
+     */
+    @Getter
+    @Setter
+    public static class Hedging {
+
+        private boolean enabled = false;
+
+        /**
+         * Percentile of the recent latencies of a read after which it is hedged, between 0 and 1.
+         */
+        private double percentile = 0.95;
+
+        /**
+         * Number of most recent latencies of a read the percentile is taken from.
+         */
+        private int windowSize = 1_000;
+
+        /**
+         * Number of latencies of a read needed before it is hedged.
+         */
+        private int minSamples = 100;
+
+        /**
+         * Lower bound of the hedging delay.
+         */
+        private Duration minDelay = Duration.ofMillis(5);
+
+        /**
+         * Hedges allowed per read, e.g. 0.05 for at most one hedge every 20 reads.
+         */
+        private double budgetRatio = 0.05;
+
+        /**
+         * Maximum number of hedges that can be saved up and sent in a burst.
+         */
+        private double maxBudget = 10;
+    }
+
+    @Getter
+    @Setter
+    public static class Retry {
+
+        private boolean enabled = true;
+
+        /**
+         * Number of retries of a call after a transient failure; 0 disables retries.
+         */
+        private int maxAttempts = 2;
+
+        /**
+         * Upper bound of the backoff before the first retry; doubled on every further retry. The
+         * actual backoff is drawn at random below the bound.
+         */
+        private Duration initialBackoff = Duration.ofMillis(50);
+
+        /**
+         * Upper bound of the backoff between two retries.
+         */
+        private Duration maxBackoff = Duration.ofSeconds(1);
+
+        /**
+         * Retries earned per call, across all calls, e.g. 0.1 for at most one retry every 10 calls.
+         */
+        private double budgetRatio = 0.1;
+
+        /**
+         * Maximum number of retries that can be saved up and sent in a burst.
+         */
+        private double maxBudget = 20;
+    }
+
+    @Getter
+    @Setter
+    public static class Balancer {
+
+        /**
+         * Number of consecutive failed calls after which an instance is ejected.
+         */
+        private int consecutiveFailures = 5;
+
+        /**
+         * An instance whose average latency exceeds this many times the fastest instance's is ejected.
+         */
+        private double latencyFactor = 3.0;
+
+        /**
+         * Duration of the first ejection of an instance; every further ejection lasts this much longer.
+         */
+        private Duration baseEjectionTime = Duration.ofSeconds(30);
+
+        /**
+         * Maximum share of the instances ejected at the same time, between 0 and 1.
+         */
+        private double maxEjectionRatio = 0.5;
+    }
+
+    @Getter
+    @Setter
+    public static class Profile {
+
+        /**
+         * Time allowed to read the party of a customer profile; the profile cannot be assembled
+         * without it.
+         */
+        private Duration partyTimeout = Duration.ofSeconds(1);
+
+        /**
+         * Time allowed to read the natural person or legal entity of a customer profile, counted
+         * once the party is known; the profile is returned without it when exceeded.
+         */
+        private Duration detailsTimeout = Duration.ofSeconds(1);
+
+        /**
+         * Time allowed to read the emails of a customer profile; the profile is returned without
+         * its email when exceeded.
+         */
+        private Duration emailTimeout = Duration.ofMillis(500);
+    }
+
+    public enum Protocol {
+        HTTP11,
+        H2,
+        H2C
+    }
+}
@@ -6,6 +6,18 @@ public class GlobalConstants {
     public static final String CTX_CUSTOMER_TYPE = "X-Customer-Type";
     public static final String CTX_PARTY_ID = "partyId";
     public static final String CTX_CUSTOMER_ID = "customerId";
+    public static final String CTX_ITEM_INDEXES = "itemIndexes";
+    public static final String CTX_FAN_OUT_PERMITS = "fanOutPermits";
+    public static final String CTX_COMPENSATION_BATCH = "compensationBatch";
+    public static final String CTX_SAGA_NAME = "sagaName";
+    public static final String CTX_CUSTOMER_CONTEXT = "customerContext";
+    public static final String CTX_DEADLINE = "deadline";
+    public static final String CTX_CANCELLED = "cancelled";
+
+    // ============================== FAN-OUT LIMITS ==============================
+    // Default maximum of in-flight downstream calls of one saga execution;
+    // overridable with saga-configuration.fan-out.per-saga
+    public static final int MAX_IN_FLIGHT_PER_SAGA = 16;
 
     // ============================== CUSTOMER TYPE CONSTANTS ==============================
     public static final String TYPE_LEGAL_ENTITY = "ORGANIZATION";
@@ -1,6 +1,7 @@
 package com.firefly.domain.people.core.orchestrator.address;
 
 import com.firefly.domain.people.core.integration.client.CustomersClient;
+import com.firefly.domain.people.core.orchestrator.support.SagaStepExecutor;
 import com.firefly.domain.people.interfaces.dto.commands.RegisterAddressCommand;
 import com.firefly.domain.people.interfaces.dto.commands.RemoveAddressCommand;
 import com.firefly.transactionalengine.annotations.Saga;
@@ -33,10 +34,12 @@ import static com.firefly.domain.people.core.orchestrator.address.AddressConstan
 public class AddAddressOrchestrator {
 
     private final CustomersClient customersClient;
+    private final SagaStepExecutor stepExecutor;
 
     @Autowired
-    public AddAddressOrchestrator(CustomersClient customersClient) {
+    public AddAddressOrchestrator(CustomersClient customersClient, SagaStepExecutor stepExecutor) {
         this.customersClient = customersClient;
+        this.stepExecutor = stepExecutor;
     }
 
     @SagaStep(id = STEP_ADD_NEW_ADDRESS)
@@ -44,7 +47,7 @@ public class AddAddressOrchestrator {
     public Mono<Long> registerAddress(RegisterAddressCommand cmd, SagaContext ctx) {
         return cmd == null
                 ? Mono.empty()
-                : customersClient.createAddress(cmd.partyId(), cmd)
+                : stepExecutor.execute(ctx, STEP_ADD_NEW_ADDRESS, cmd, () -> customersClient.createAddress(cmd.partyId(), cmd))
                 .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getAddressId()))
                 .doOnNext(partyId -> ctx.variables().put(CTX_PARTY_ID, partyId));
     }
@@ -1,6 +1,7 @@
 package com.firefly.domain.people.core.orchestrator.address;
 
 import com.firefly.domain.people.core.integration.client.CustomersClient;
+import com.firefly.domain.people.core.orchestrator.support.SagaStepExecutor;
 import com.firefly.domain.people.interfaces.dto.commands.RegisterAddressCommand;
 import com.firefly.transactionalengine.annotations.Saga;
 import com.firefly.transactionalengine.annotations.SagaStep;
@@ -23,10 +24,12 @@ import static com.firefly.domain.people.core.orchestrator.address.AddressConstan
 public class UpdateAddressOrchestrator {
 
     private final CustomersClient customersClient;
+    private final SagaStepExecutor stepExecutor;
 
     @Autowired
-    public UpdateAddressOrchestrator(CustomersClient customersClient) {
+    public UpdateAddressOrchestrator(CustomersClient customersClient, SagaStepExecutor stepExecutor) {
         this.customersClient = customersClient;
+        this.stepExecutor = stepExecutor;
     }
 
     @SagaStep(id = STEP_UPDATE_ADDRESS)
@@ -34,7 +37,7 @@ public class UpdateAddressOrchestrator {
     public Mono<Void> updateAddress(RegisterAddressCommand cmd, SagaContext ctx) {
         return cmd == null
                 ? Mono.empty()
-                : customersClient.updateAddress(cmd.partyId(), cmd.addressId(), cmd)
+                : stepExecutor.execute(ctx, STEP_UPDATE_ADDRESS, cmd, () -> customersClient.updateAddress(cmd.partyId(), cmd.addressId(), cmd))
                 .then();
     }
 }
\ No newline at end of file
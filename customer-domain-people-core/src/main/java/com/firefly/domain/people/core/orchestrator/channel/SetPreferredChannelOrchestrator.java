@@ -1,6 +1,7 @@
 package com.firefly.domain.people.core.orchestrator.channel;
 
 import com.firefly.domain.people.core.integration.client.CustomersClient;
+import com.firefly.domain.people.core.orchestrator.support.SagaStepExecutor;
 import com.firefly.domain.people.interfaces.dto.commands.PreferredChannelCommand;
 import com.firefly.domain.people.interfaces.dto.commands.RegisterEmailCommand;
 import com.firefly.domain.people.interfaces.dto.commands.RegisterPhoneCommand;
@@ -25,10 +26,12 @@ import static com.firefly.domain.people.core.orchestrator.channel.ChannelConstan
 public class SetPreferredChannelOrchestrator {
 
     private final CustomersClient customersClient;
+    private final SagaStepExecutor stepExecutor;
 
     @Autowired
-    public SetPreferredChannelOrchestrator(CustomersClient customersClient) {
+    public SetPreferredChannelOrchestrator(CustomersClient customersClient, SagaStepExecutor stepExecutor) {
         this.customersClient = customersClient;
+        this.stepExecutor = stepExecutor;
     }
 
     @SagaStep(id = STEP_UPDATE_CHANNEL)
@@ -40,13 +43,15 @@ public class SetPreferredChannelOrchestrator {
 
         Long partyId = cmd.partyId();
         if (cmd.emailId() != null) {
-            emailUpdate = customersClient.updateEmail(partyId, cmd.emailId(),
-                            new RegisterEmailCommand(partyId, null, null, true, null))
+            RegisterEmailCommand emailCommand = new RegisterEmailCommand(partyId, null, null, true, null);
+            emailUpdate = stepExecutor.execute(ctx, STEP_UPDATE_CHANNEL, emailCommand,
+                            () -> customersClient.updateEmail(partyId, cmd.emailId(), emailCommand))
                     .then();
         }
         if (cmd.phoneId() != null) {
-            phoneUpdate = customersClient.updatePhone(partyId, cmd.phoneId(),
-                    new RegisterPhoneCommand(partyId, null, null, true, null, null))
+            RegisterPhoneCommand phoneCommand = new RegisterPhoneCommand(partyId, null, null, true, null, null);
+            phoneUpdate = stepExecutor.execute(ctx, STEP_UPDATE_CHANNEL, phoneCommand,
+                            () -> customersClient.updatePhone(partyId, cmd.phoneId(), phoneCommand))
                     .then();
         }
 
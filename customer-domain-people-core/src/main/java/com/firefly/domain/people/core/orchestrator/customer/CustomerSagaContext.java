@@ -0,0 +1,61 @@
+package com.firefly.domain.people.core.orchestrator.customer;
+
+import com.firefly.transactionalengine.core.SagaContext;
+import lombok.Getter;
+import lombok.Setter;
+
+import static com.firefly.domain.people.core.orchestrator.GlobalConstants.*;
+
+/**
+ * Saga context of the customer orchestrators. The variables read by every step (party id, party
+ * kind, customer id and registration plan) are held in fields instead of the string-keyed
+ * {@link #variables()} map, so reading them costs neither a hash lookup nor a cast.
+ *
+ * Variables needed to recover a saga from the journal must still be put in {@link #variables()},
+ * which is what the journal snapshots.
+ */
+@Getter
+@Setter
+public class CustomerSagaContext extends SagaContext {
+
+    private volatile Long partyId;
+    private volatile PartyKind partyKind;
+    private volatile Long customerId;
+    private volatile RegisterCustomerPlan plan;
+
+    public CustomerSagaContext() {
+        super();
+    }
+
+    public CustomerSagaContext(String correlationId) {
+        super(correlationId);
+    }
+
+    /**
+     * Returns the typed view of a saga context. A context that was not created as a
+     * {@code CustomerSagaContext} gets one restored from its variables and kept among them.
+     *
+     * @param ctx the saga context passed to a step
+     * @return the typed context
+     */
+    public static CustomerSagaContext of(SagaContext ctx) {
+        if (ctx instanceof CustomerSagaContext customer) {
+            return customer;
+        }
+        return (CustomerSagaContext) ctx.variables().computeIfAbsent(CTX_CUSTOMER_CONTEXT, key -> restore(ctx));
+    }
+
+    private static CustomerSagaContext restore(SagaContext ctx) {
+        CustomerSagaContext customer = new CustomerSagaContext(ctx.correlationId());
+        if (ctx.variables().get(CTX_PARTY_ID) instanceof Number partyId) {
+            customer.setPartyId(partyId.longValue());
+        }
+        if (ctx.variables().get(CTX_CUSTOMER_TYPE) instanceof String partyKind) {
+            customer.setPartyKind(PartyKind.of(partyKind));
+        }
+        if (ctx.variables().get(CTX_CUSTOMER_ID) instanceof Number customerId) {
+            customer.setCustomerId(customerId.longValue());
+        }
+        return customer;
+    }
+}
@@ -0,0 +1,24 @@
+package com.firefly.domain.people.core.orchestrator.customer;
+
+import static com.firefly.domain.people.core.orchestrator.GlobalConstants.TYPE_LEGAL_ENTITY;
+import static com.firefly.domain.people.core.orchestrator.GlobalConstants.TYPE_NATURAL_PERSON;
+
+/**
+ * The party kinds handled by the customer orchestrators.
+ */
+public enum PartyKind {
+
+    INDIVIDUAL,
+    ORGANIZATION;
+
+    /**
+     * @param partyKind the party kind as sent by clients and customer-mgmt
+     * @return the matching kind, or null for any other value
+     */
+    public static PartyKind of(String partyKind) {
+        if (TYPE_NATURAL_PERSON.equals(partyKind)) {
+            return INDIVIDUAL;
+        }
+        return TYPE_LEGAL_ENTITY.equals(partyKind) ? ORGANIZATION : null;
+    }
+}
@@ -1,5 +1,7 @@
 package com.firefly.domain.people.core.orchestrator.customer;
 
+import java.util.Map;
+
 public class RegisterCustomerConstants {
 
     // ============================== SAGA CONFIGURATION ==============================
@@ -25,6 +27,22 @@ public class RegisterCustomerConstants {
     public static final String STEP_RETRIEVE_CUSTOMER = "retrieveCustomer";
     public static final String STEP_UPDATE_CUSTOMER_NAME = "updateCustomerName";
 
+    // ============================== FAN-OUT LIMITS ==============================
+    // Default maximum of in-flight downstream calls per step within one saga execution;
+    // overridable with saga-configuration.fan-out.per-step.<stepId>
+    public static final Map<String, Integer> MAX_IN_FLIGHT_PER_STEP = Map.ofEntries(
+            Map.entry(STEP_REGISTER_STATUS_ENTRY, 2),
+            Map.entry(STEP_REGISTER_IDENTITY_DOCUMENT, 4),
+            Map.entry(STEP_REGISTER_ADDRESS, 4),
+            Map.entry(STEP_REGISTER_EMAIL, 4),
+            Map.entry(STEP_REGISTER_PHONE, 4),
+            Map.entry(STEP_REGISTER_ECONOMIC_ACTIVITY_LINK, 4),
+            Map.entry(STEP_REGISTER_CONSENT, 4),
+            Map.entry(STEP_REGISTER_PARTY_PROVIDER, 4),
+            Map.entry(STEP_REGISTER_PARTY_RELATIONSHIP, 8),
+            Map.entry(STEP_REGISTER_PARTY_GROUP_MEMBERSHIP, 8)
+    );
+
     // ============================== COMPENSATE METHODS ==============================
     public static final String COMPENSATE_REMOVE_PARTY = "removeParty";
     public static final String COMPENSATE_REMOVE_NATURAL_PERSON = "removeNaturalPerson";
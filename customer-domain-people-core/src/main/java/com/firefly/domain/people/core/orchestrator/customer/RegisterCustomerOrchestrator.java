@@ -1,6 +1,10 @@
 package com.firefly.domain.people.core.orchestrator.customer;
 
 import com.firefly.domain.people.core.integration.client.CustomersClient;
+import com.firefly.domain.people.core.orchestrator.journal.SagaJournal;
+import com.firefly.domain.people.core.orchestrator.support.SagaCompensationExecutor;
+import com.firefly.domain.people.core.orchestrator.support.SagaIdempotencyKeys;
+import com.firefly.domain.people.core.orchestrator.support.SagaStepExecutor;
 import com.firefly.domain.people.interfaces.dto.commands.RegisterLegalPersonCommand;
 import com.firefly.domain.people.interfaces.dto.commands.RegisterNaturalPersonCommand;
 import com.firefly.domain.people.interfaces.dto.commands.RegisterPartyCommand;
@@ -37,90 +41,123 @@ import static com.firefly.domain.people.core.orchestrator.customer.RegisterCusto
  * contact information setup, and relationship establishment. Each step is designed
  * to be compensatable to ensure data consistency in case of failures.
  * 
- * The orchestrator handles both natural persons and legal entities, with conditional
- * logic to process only relevant information based on the customer type.
+ * The orchestrator handles both natural persons and legal entities. The
+ * {@link RegisterCustomerPlan} of the command decides which steps run; the others
+ * complete immediately without reaching the step executor.
+ * 
+ * Every created id is recorded in the {@link SagaJournal} so that a registration interrupted
+ * by a restart can be compensated on the next startup. The party step is also recorded before
+ * its call, with the idempotency key the call is sent with.
  */
 @Saga(name = SAGA_REGISTER_CUSTOMER_NAME)
 @Service
 public class RegisterCustomerOrchestrator {
 
     private final CustomersClient customersClient;
+    private final SagaStepExecutor stepExecutor;
+    private final SagaCompensationExecutor compensationExecutor;
+    private final SagaJournal journal;
 
     @Autowired
-    public RegisterCustomerOrchestrator(CustomersClient customersClient) {
+    public RegisterCustomerOrchestrator(CustomersClient customersClient, SagaStepExecutor stepExecutor,
+                                        SagaCompensationExecutor compensationExecutor, SagaJournal journal) {
         this.customersClient = customersClient;
+        this.stepExecutor = stepExecutor;
+        this.compensationExecutor = compensationExecutor;
+        this.journal = journal;
     }
 
     @SagaStep(id = STEP_REGISTER_PARTY, compensate = COMPENSATE_REMOVE_PARTY)
     @StepEvent(type = EVENT_PARTY_REGISTERED)
     public Mono<Long> registerParty(RegisterPartyCommand cmd, SagaContext ctx) {
+        CustomerSagaContext customer = CustomerSagaContext.of(ctx);
+        customer.setPartyKind(PartyKind.of(cmd.partyKind()));
+        // the variables are journaled for recovery, the typed fields are what the steps read
         ctx.variables().put(CTX_CUSTOMER_TYPE, cmd.partyKind());
-        return customersClient
-                .createParty(cmd)
+        // journaled before the call: a party created just before a crash can only be found again through its key
+        return journal.recordStepStarting(ctx, STEP_REGISTER_PARTY, cmd, SagaIdempotencyKeys.keyFor(ctx, STEP_REGISTER_PARTY, cmd))
+                .then(stepExecutor.execute(ctx, STEP_REGISTER_PARTY, cmd, () -> customersClient.createParty(cmd)))
                 .mapNotNull(partyDTOResponseEntity ->
                         Objects.requireNonNull(Objects.requireNonNull(partyDTOResponseEntity.getBody()).getPartyId()))
-                .doOnNext(partyId -> ctx.variables().put(CTX_PARTY_ID, partyId));
+                .doOnNext(partyId -> {
+                    customer.setPartyId(partyId);
+                    ctx.variables().put(CTX_PARTY_ID, partyId);
+                })
+                .doOnNext(partyId -> journal.recordStep(ctx, STEP_REGISTER_PARTY, partyId));
     }
 
-    public Mono<Void> removeParty(Long partyId) {
-        return customersClient.deleteParty(partyId).mapNotNull(HttpEntity::getBody);
+    public Mono<Void> removeParty(Long partyId, SagaContext ctx) {
+        return compensationExecutor.compensateRoot(ctx, COMPENSATE_REMOVE_PARTY,
+                () -> customersClient.deleteParty(partyId).mapNotNull(HttpEntity::getBody));
     }
 
     @SagaStep(id = STEP_REGISTER_NATURAL_PERSON, compensate = COMPENSATE_REMOVE_NATURAL_PERSON, dependsOn = STEP_REGISTER_PARTY)
     @StepEvent(type = EVENT_NATURAL_PERSON_REGISTERED)
     public Mono<Long> registerNaturalPerson(RegisterNaturalPersonCommand cmd, SagaContext ctx) {
-        return !ctx.variables().get(CTX_CUSTOMER_TYPE).equals(TYPE_NATURAL_PERSON)
+        return cmd == null || !RegisterCustomerPlan.isPlanned(ctx, STEP_REGISTER_NATURAL_PERSON)
                 ? Mono.empty()
-                : customersClient.createNaturalPerson((Long) ctx.variables().get(CTX_PARTY_ID), cmd)
-                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getNaturalPersonId()));
+                : stepExecutor.execute(ctx, STEP_REGISTER_NATURAL_PERSON, cmd, () -> customersClient.createNaturalPerson(CustomerSagaContext.of(ctx).getPartyId(), cmd))
+                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getNaturalPersonId()))
+                    .doOnNext(id -> journal.recordStep(ctx, STEP_REGISTER_NATURAL_PERSON, id));
     }
 
     public Mono<Void> removeNaturalPerson(Long naturalPersonId, SagaContext ctx) {
-        return !ctx.variables().get(CTX_CUSTOMER_TYPE).equals(TYPE_NATURAL_PERSON)
+        return naturalPersonId == null
                 ? Mono.empty()
-                : customersClient.deleteNaturalPerson((Long) ctx.variables().get(CTX_PARTY_ID), naturalPersonId).mapNotNull(HttpEntity::getBody);
+                : compensationExecutor.compensate(ctx, COMPENSATE_REMOVE_NATURAL_PERSON,
+                        () -> customersClient.deleteNaturalPerson(CustomerSagaContext.of(ctx).getPartyId(), naturalPersonId).mapNotNull(HttpEntity::getBody));
     }
 
     @SagaStep(id = STEP_REGISTER_LEGAL_PERSON, compensate = COMPENSATE_REMOVE_LEGAL_PERSON, dependsOn = STEP_REGISTER_PARTY)
     @StepEvent(type = EVENT_LEGAL_PERSON_REGISTERED)
     public Mono<Long> registerLegalPerson(RegisterLegalPersonCommand cmd, SagaContext ctx) {
-        return !ctx.variables().get(CTX_CUSTOMER_TYPE).equals(TYPE_LEGAL_ENTITY)
+        return cmd == null || !RegisterCustomerPlan.isPlanned(ctx, STEP_REGISTER_LEGAL_PERSON)
                 ? Mono.empty()
-                : customersClient.createLegalPerson((Long) ctx.variables().get(CTX_PARTY_ID), cmd)
-                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getLegalEntityId()));
+                : stepExecutor.execute(ctx, STEP_REGISTER_LEGAL_PERSON, cmd, () -> customersClient.createLegalPerson(CustomerSagaContext.of(ctx).getPartyId(), cmd))
+                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getLegalEntityId()))
+                    .doOnNext(id -> journal.recordStep(ctx, STEP_REGISTER_LEGAL_PERSON, id));
     }
 
     public Mono<Void> removeLegalPerson(Long legalPersonId, SagaContext ctx) {
-        return !ctx.variables().get(CTX_CUSTOMER_TYPE).equals(TYPE_LEGAL_ENTITY)
+        return legalPersonId == null
                 ? Mono.empty()
-                : customersClient.deleteLegalEntity((Long) ctx.variables().get(CTX_PARTY_ID), legalPersonId).mapNotNull(HttpEntity::getBody);
+                : compensationExecutor.compensate(ctx, COMPENSATE_REMOVE_LEGAL_PERSON,
+                        () -> customersClient.deleteLegalEntity(CustomerSagaContext.of(ctx).getPartyId(), legalPersonId).mapNotNull(HttpEntity::getBody));
     }
 
 
     @SagaStep(id = STEP_REGISTER_STATUS_ENTRY, compensate = COMPENSATE_REMOVE_STATUS_ENTRY, dependsOn = STEP_REGISTER_PARTY)
     @StepEvent(type = EVENT_PARTY_STATUS_REGISTERED)
     public Mono<Long> registerStatusEntry(RegisterPartyStatusEntryCommand cmd, SagaContext ctx) {
-        return customersClient.createPartyStatus((Long) ctx.variables().get(CTX_PARTY_ID), cmd)
-                .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getPartyStatusId()));
+        return cmd == null || !RegisterCustomerPlan.isPlanned(ctx, STEP_REGISTER_STATUS_ENTRY)
+                ? Mono.empty()
+                : stepExecutor.execute(ctx, STEP_REGISTER_STATUS_ENTRY, cmd, () -> customersClient.createPartyStatus(CustomerSagaContext.of(ctx).getPartyId(), cmd))
+                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getPartyStatusId()))
+                    .doOnNext(id -> journal.recordStep(ctx, STEP_REGISTER_STATUS_ENTRY, id));
     }
 
     public Mono<Void> removeStatusEntry(Long id, SagaContext ctx) {
-        return customersClient.deletePartyStatus((Long) ctx.variables().get(CTX_PARTY_ID), id).mapNotNull(HttpEntity::getBody);
+        return id == null
+                ? Mono.empty()
+                : compensationExecutor.compensate(ctx, COMPENSATE_REMOVE_STATUS_ENTRY,
+                        () -> customersClient.deletePartyStatus(CustomerSagaContext.of(ctx).getPartyId(), id).mapNotNull(HttpEntity::getBody));
     }
 
     @SagaStep(id = STEP_REGISTER_PEP, compensate = COMPENSATE_REMOVE_PEP, dependsOn = STEP_REGISTER_PARTY)
     @StepEvent(type = EVENT_PEP_REGISTERED)
     public Mono<Long> registerPep(RegisterPepCommand cmd, SagaContext ctx) {
-        return cmd == null || !ctx.variables().get(CTX_CUSTOMER_TYPE).equals(TYPE_NATURAL_PERSON)
+        return cmd == null || !RegisterCustomerPlan.isPlanned(ctx, STEP_REGISTER_PEP)
                 ? Mono.empty()
-                : customersClient.createPep((Long) ctx.variables().get(CTX_PARTY_ID), cmd)
-                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getPepId()));
+                : stepExecutor.execute(ctx, STEP_REGISTER_PEP, cmd, () -> customersClient.createPep(CustomerSagaContext.of(ctx).getPartyId(), cmd))
+                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getPepId()))
+                    .doOnNext(id -> journal.recordStep(ctx, STEP_REGISTER_PEP, id));
     }
 
     public Mono<Void> removePep(Long pepId, SagaContext ctx) {
-        return pepId == null || !ctx.variables().get(CTX_CUSTOMER_TYPE).equals(TYPE_NATURAL_PERSON)
+        return pepId == null
                 ? Mono.empty()
-                : customersClient.deletePep((Long) ctx.variables().get(CTX_PARTY_ID), pepId).mapNotNull(HttpEntity::getBody);
+                : compensationExecutor.compensate(ctx, COMPENSATE_REMOVE_PEP,
+                        () -> customersClient.deletePep(CustomerSagaContext.of(ctx).getPartyId(), pepId).mapNotNull(HttpEntity::getBody));
     }
 
     @SagaStep(id = STEP_REGISTER_IDENTITY_DOCUMENT, compensate = COMPENSATE_REMOVE_IDENTITY_DOCUMENT, dependsOn = STEP_REGISTER_PARTY)
@@ -128,14 +165,16 @@ public class RegisterCustomerOrchestrator {
     public Mono<Long> registerIdentityDocument(RegisterIdentityDocumentCommand cmd, SagaContext ctx) {
         return cmd == null
                 ? Mono.empty()
-                : customersClient.createIdentityDocument((Long) ctx.variables().get(CTX_PARTY_ID), cmd)
-                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getIdentityDocumentId()));
+                : stepExecutor.execute(ctx, STEP_REGISTER_IDENTITY_DOCUMENT, cmd, () -> customersClient.createIdentityDocument(CustomerSagaContext.of(ctx).getPartyId(), cmd))
+                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getIdentityDocumentId()))
+                    .doOnNext(id -> journal.recordStep(ctx, STEP_REGISTER_IDENTITY_DOCUMENT, id));
     }
 
     public Mono<Void> removeIdentityDocument(Long identityDocumentId, SagaContext ctx) {
         return identityDocumentId == null
                 ? Mono.empty()
-                : customersClient.deleteIdentityDocument((Long) ctx.variables().get(CTX_PARTY_ID), identityDocumentId).mapNotNull(HttpEntity::getBody);
+                : compensationExecutor.compensate(ctx, COMPENSATE_REMOVE_IDENTITY_DOCUMENT,
+                        () -> customersClient.deleteIdentityDocument(CustomerSagaContext.of(ctx).getPartyId(), identityDocumentId).mapNotNull(HttpEntity::getBody));
     }
 
     @SagaStep(id = STEP_REGISTER_ADDRESS, compensate = COMPENSATE_REMOVE_ADDRESS, dependsOn = STEP_REGISTER_PARTY)
@@ -143,14 +182,16 @@ public class RegisterCustomerOrchestrator {
     public Mono<Long> registerAddress(RegisterAddressCommand cmd, SagaContext ctx) {
         return cmd == null
                 ? Mono.empty()
-                : customersClient.createAddress((Long) ctx.variables().get(CTX_PARTY_ID), cmd)
-                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getAddressId()));
+                : stepExecutor.execute(ctx, STEP_REGISTER_ADDRESS, cmd, () -> customersClient.createAddress(CustomerSagaContext.of(ctx).getPartyId(), cmd))
+                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getAddressId()))
+                    .doOnNext(id -> journal.recordStep(ctx, STEP_REGISTER_ADDRESS, id));
     }
 
     public Mono<Void> removeAddress(Long addressId, SagaContext ctx) {
         return addressId == null
                 ? Mono.empty()
-                : customersClient.deleteAddress((Long) ctx.variables().get(CTX_PARTY_ID), addressId).mapNotNull(HttpEntity::getBody);
+                : compensationExecutor.compensate(ctx, COMPENSATE_REMOVE_ADDRESS,
+                        () -> customersClient.deleteAddress(CustomerSagaContext.of(ctx).getPartyId(), addressId).mapNotNull(HttpEntity::getBody));
     }
 
     @SagaStep(id = STEP_REGISTER_EMAIL, compensate = COMPENSATE_REMOVE_EMAIL, dependsOn = STEP_REGISTER_PARTY)
@@ -158,14 +199,16 @@ public class RegisterCustomerOrchestrator {
     public Mono<Long> registerEmail(RegisterEmailCommand cmd, SagaContext ctx) {
         return cmd == null
                 ? Mono.empty()
-                : customersClient.createEmail((Long) ctx.variables().get(CTX_PARTY_ID), cmd)
-                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getEmailContactId()));
+                : stepExecutor.execute(ctx, STEP_REGISTER_EMAIL, cmd, () -> customersClient.createEmail(CustomerSagaContext.of(ctx).getPartyId(), cmd))
+                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getEmailContactId()))
+                    .doOnNext(id -> journal.recordStep(ctx, STEP_REGISTER_EMAIL, id));
     }
 
     public Mono<Void> removeEmail(Long emailId, SagaContext ctx) {
         return emailId == null
                 ? Mono.empty()
-                : customersClient.deleteEmail((Long) ctx.variables().get(CTX_PARTY_ID), emailId).mapNotNull(HttpEntity::getBody);
+                : compensationExecutor.compensate(ctx, COMPENSATE_REMOVE_EMAIL,
+                        () -> customersClient.deleteEmail(CustomerSagaContext.of(ctx).getPartyId(), emailId).mapNotNull(HttpEntity::getBody));
     }
 
     @SagaStep(id = STEP_REGISTER_PHONE, compensate = COMPENSATE_REMOVE_PHONE, dependsOn = STEP_REGISTER_PARTY)
@@ -173,14 +216,16 @@ public class RegisterCustomerOrchestrator {
     public Mono<Long> registerPhone(RegisterPhoneCommand cmd, SagaContext ctx) {
         return cmd == null
                 ? Mono.empty()
-                : customersClient.createPhone((Long) ctx.variables().get(CTX_PARTY_ID), cmd)
-                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getPhoneContactId()));
+                : stepExecutor.execute(ctx, STEP_REGISTER_PHONE, cmd, () -> customersClient.createPhone(CustomerSagaContext.of(ctx).getPartyId(), cmd))
+                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getPhoneContactId()))
+                    .doOnNext(id -> journal.recordStep(ctx, STEP_REGISTER_PHONE, id));
     }
 
     public Mono<Void> removePhone(Long phoneId, SagaContext ctx) {
         return phoneId == null
                 ? Mono.empty()
-                : customersClient.deletePhone((Long) ctx.variables().get(CTX_PARTY_ID), phoneId).mapNotNull(HttpEntity::getBody);
+                : compensationExecutor.compensate(ctx, COMPENSATE_REMOVE_PHONE,
+                        () -> customersClient.deletePhone(CustomerSagaContext.of(ctx).getPartyId(), phoneId).mapNotNull(HttpEntity::getBody));
     }
 
     @SagaStep(id = STEP_REGISTER_ECONOMIC_ACTIVITY_LINK, compensate = COMPENSATE_REMOVE_ECONOMIC_ACTIVITY_LINK, dependsOn = STEP_REGISTER_PARTY)
@@ -188,29 +233,33 @@ public class RegisterCustomerOrchestrator {
     public Mono<Long> registerEconomicActivityLink(RegisterEconomicActivityLinkCommand cmd, SagaContext ctx) {
         return cmd == null
                 ? Mono.empty()
-                : customersClient.createPartyEconomicActivity((Long) ctx.variables().get(CTX_PARTY_ID), cmd)
-                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getPartyEconomicActivityId()));
+                : stepExecutor.execute(ctx, STEP_REGISTER_ECONOMIC_ACTIVITY_LINK, cmd, () -> customersClient.createPartyEconomicActivity(CustomerSagaContext.of(ctx).getPartyId(), cmd))
+                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getPartyEconomicActivityId()))
+                    .doOnNext(id -> journal.recordStep(ctx, STEP_REGISTER_ECONOMIC_ACTIVITY_LINK, id));
     }
 
     public Mono<Void> removeEconomicActivityLink(Long id, SagaContext ctx) {
         return id == null
                 ? Mono.empty()
-                : customersClient.deletePartyEconomicActivity((Long) ctx.variables().get(CTX_PARTY_ID), id).mapNotNull(HttpEntity::getBody);
+                : compensationExecutor.compensate(ctx, COMPENSATE_REMOVE_ECONOMIC_ACTIVITY_LINK,
+                        () -> customersClient.deletePartyEconomicActivity(CustomerSagaContext.of(ctx).getPartyId(), id).mapNotNull(HttpEntity::getBody));
     }
 
     @SagaStep(id = STEP_REGISTER_CONSENT, compensate = COMPENSATE_REMOVE_CONSENT, dependsOn = STEP_REGISTER_PARTY)
     @StepEvent(type = EVENT_CONSENT_REGISTERED)
     public Mono<Long> registerConsent(RegisterConsentCommand cmd, SagaContext ctx) {
-        return cmd == null || !ctx.variables().get(CTX_CUSTOMER_TYPE).equals(TYPE_NATURAL_PERSON)
+        return cmd == null || !RegisterCustomerPlan.isPlanned(ctx, STEP_REGISTER_CONSENT)
                 ? Mono.empty()
-                : customersClient.createConsent((Long) ctx.variables().get(CTX_PARTY_ID), cmd)
-                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getConsentId()));
+                : stepExecutor.execute(ctx, STEP_REGISTER_CONSENT, cmd, () -> customersClient.createConsent(CustomerSagaContext.of(ctx).getPartyId(), cmd))
+                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getConsentId()))
+                    .doOnNext(id -> journal.recordStep(ctx, STEP_REGISTER_CONSENT, id));
     }
 
     public Mono<Void> removeConsent(Long consentId, SagaContext ctx) {
-        return consentId == null || !ctx.variables().get(CTX_CUSTOMER_TYPE).equals(TYPE_NATURAL_PERSON)
+        return consentId == null
                 ? Mono.empty()
-                : customersClient.deleteConsent((Long) ctx.variables().get(CTX_PARTY_ID), consentId).mapNotNull(HttpEntity::getBody);
+                : compensationExecutor.compensate(ctx, COMPENSATE_REMOVE_CONSENT,
+                        () -> customersClient.deleteConsent(CustomerSagaContext.of(ctx).getPartyId(), consentId).mapNotNull(HttpEntity::getBody));
     }
 
     @SagaStep(id = STEP_REGISTER_PARTY_PROVIDER, compensate = COMPENSATE_REMOVE_PARTY_PROVIDER, dependsOn = STEP_REGISTER_PARTY)
@@ -218,14 +267,16 @@ public class RegisterCustomerOrchestrator {
     public Mono<Long> registerPartyProvider(RegisterPartyProviderCommand cmd, SagaContext ctx) {
         return cmd == null
                 ? Mono.empty()
-                : customersClient.createPartyProvider((Long) ctx.variables().get(CTX_PARTY_ID), cmd)
-                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getPartyProviderId()));
+                : stepExecutor.execute(ctx, STEP_REGISTER_PARTY_PROVIDER, cmd, () -> customersClient.createPartyProvider(CustomerSagaContext.of(ctx).getPartyId(), cmd))
+                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getPartyProviderId()))
+                    .doOnNext(id -> journal.recordStep(ctx, STEP_REGISTER_PARTY_PROVIDER, id));
     }
 
     public Mono<Void> removePartyProvider(Long partyProviderId, SagaContext ctx) {
         return partyProviderId == null
                 ? Mono.empty()
-                : customersClient.deletePartyProvider((Long) ctx.variables().get(CTX_PARTY_ID), partyProviderId).mapNotNull(HttpEntity::getBody);
+                : compensationExecutor.compensate(ctx, COMPENSATE_REMOVE_PARTY_PROVIDER,
+                        () -> customersClient.deletePartyProvider(CustomerSagaContext.of(ctx).getPartyId(), partyProviderId).mapNotNull(HttpEntity::getBody));
     }
 
     @SagaStep(id = STEP_REGISTER_PARTY_RELATIONSHIP, compensate = COMPENSATE_REMOVE_PARTY_RELATIONSHIP, dependsOn = STEP_REGISTER_PARTY)
@@ -233,14 +284,16 @@ public class RegisterCustomerOrchestrator {
     public Mono<Long> registerPartyRelationship(RegisterPartyRelationshipCommand cmd, SagaContext ctx) {
         return cmd == null
                 ? Mono.empty()
-                : customersClient.createPartyRelationshipWithHttpInfo((Long) ctx.variables().get(CTX_PARTY_ID), cmd)
-                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getPartyRelationshipId()));
+                : stepExecutor.execute(ctx, STEP_REGISTER_PARTY_RELATIONSHIP, cmd, () -> customersClient.createPartyRelationshipWithHttpInfo(CustomerSagaContext.of(ctx).getPartyId(), cmd))
+                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getPartyRelationshipId()))
+                    .doOnNext(id -> journal.recordStep(ctx, STEP_REGISTER_PARTY_RELATIONSHIP, id));
     }
 
     public Mono<Void> removePartyRelationship(Long partyRelationshipId, SagaContext ctx) {
         return partyRelationshipId == null
                 ? Mono.empty()
-                : customersClient.deletePartyRelationshipWithHttpInfo((Long) ctx.variables().get(CTX_PARTY_ID), partyRelationshipId).mapNotNull(HttpEntity::getBody);
+                : compensationExecutor.compensate(ctx, COMPENSATE_REMOVE_PARTY_RELATIONSHIP,
+                        () -> customersClient.deletePartyRelationshipWithHttpInfo(CustomerSagaContext.of(ctx).getPartyId(), partyRelationshipId).mapNotNull(HttpEntity::getBody));
     }
 
     @SagaStep(id = STEP_REGISTER_PARTY_GROUP_MEMBERSHIP, compensate = COMPENSATE_REMOVE_PARTY_GROUP_MEMBERSHIP, dependsOn = STEP_REGISTER_PARTY)
@@ -248,13 +301,15 @@ public class RegisterCustomerOrchestrator {
     public Mono<Long> registerPartyGroupMembership(RegisterPartyGroupMembershipCommand cmd, SagaContext ctx) {
         return cmd == null
                 ? Mono.empty()
-                : customersClient.createPartyGroupMembershipWithHttpInfo((Long) ctx.variables().get(CTX_PARTY_ID), cmd)
-                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getPartyGroupMembershipId()));
+                : stepExecutor.execute(ctx, STEP_REGISTER_PARTY_GROUP_MEMBERSHIP, cmd, () -> customersClient.createPartyGroupMembershipWithHttpInfo(CustomerSagaContext.of(ctx).getPartyId(), cmd))
+                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getPartyGroupMembershipId()))
+                    .doOnNext(id -> journal.recordStep(ctx, STEP_REGISTER_PARTY_GROUP_MEMBERSHIP, id));
     }
 
     public Mono<Void> removePartyGroupMembership(Long partyGroupMembershipId, SagaContext ctx) {
         return partyGroupMembershipId == null
                 ? Mono.empty()
-                : customersClient.deletePartyGroupMembershipWithHttpInfo((Long) ctx.variables().get(CTX_PARTY_ID), partyGroupMembershipId).mapNotNull(HttpEntity::getBody);
+                : compensationExecutor.compensate(ctx, COMPENSATE_REMOVE_PARTY_GROUP_MEMBERSHIP,
+                        () -> customersClient.deletePartyGroupMembershipWithHttpInfo(CustomerSagaContext.of(ctx).getPartyId(), partyGroupMembershipId).mapNotNull(HttpEntity::getBody));
     }
 }
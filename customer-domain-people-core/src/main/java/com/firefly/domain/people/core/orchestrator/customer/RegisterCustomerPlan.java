@@ -0,0 +1,207 @@
+package com.firefly.domain.people.core.orchestrator.customer;
+
+import com.firefly.domain.people.interfaces.dto.commands.RegisterCustomerCommand;
+import com.firefly.transactionalengine.core.SagaContext;
+import com.firefly.transactionalengine.engine.ExpandEach;
+import com.firefly.transactionalengine.engine.StepInputs;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.firefly.domain.people.core.orchestrator.customer.RegisterCustomerConstants.*;
+
+/**
+ * The steps of {@link RegisterCustomerOrchestrator} that run for one shape of registration
+ * command, that is its party kind and the sections it carries.
+ *
+ * Plans are compiled once per shape and cached. Only the planned steps receive step inputs, and
+ * the orchestrator completes a step that is not planned before it reaches the step executor, so
+ * it is not traced, journaled, nor counted against the fan-out limits.
+ */
+public final class RegisterCustomerPlan {
+
+    /**
+     * The registration steps; the section registered by the step at index i is bit i of a shape.
+     */
+    private static final List<String> STEPS = List.of(
+            STEP_REGISTER_PARTY,
+            STEP_REGISTER_NATURAL_PERSON,
+            STEP_REGISTER_LEGAL_PERSON,
+            STEP_REGISTER_STATUS_ENTRY,
+            STEP_REGISTER_PEP,
+            STEP_REGISTER_IDENTITY_DOCUMENT,
+            STEP_REGISTER_ADDRESS,
+            STEP_REGISTER_EMAIL,
+            STEP_REGISTER_PHONE,
+            STEP_REGISTER_ECONOMIC_ACTIVITY_LINK,
+            STEP_REGISTER_CONSENT,
+            STEP_REGISTER_PARTY_PROVIDER,
+            STEP_REGISTER_PARTY_RELATIONSHIP,
+            STEP_REGISTER_PARTY_GROUP_MEMBERSHIP);
+    private static final Map<String, Integer> BITS = new HashMap<>();
+
+    static {
+        for (int i = 0; i < STEPS.size(); i++) {
+            BITS.put(STEPS.get(i), 1 << i);
+        }
+    }
+
+    private static final int NATURAL_PERSON_ONLY =
+            bit(STEP_REGISTER_NATURAL_PERSON) | bit(STEP_REGISTER_PEP) | bit(STEP_REGISTER_CONSENT);
+    private static final int LEGAL_ENTITY_ONLY = bit(STEP_REGISTER_LEGAL_PERSON);
+
+    private static final Map<Integer, RegisterCustomerPlan> PLANS = new ConcurrentHashMap<>();
+
+    private final int steps;
+    private final List<String> stepIds;
+
+    private RegisterCustomerPlan(int shape) {
+        int kind = shape >>> STEPS.size();
+        int planned = shape & ((1 << STEPS.size()) - 1);
+        if (kind != PartyKind.INDIVIDUAL.ordinal() + 1) {
+            planned &= ~NATURAL_PERSON_ONLY;
+        }
+        if (kind != PartyKind.ORGANIZATION.ordinal() + 1) {
+            planned &= ~LEGAL_ENTITY_ONLY;
+        }
+        this.steps = planned;
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < STEPS.size(); i++) {
+            if ((planned & (1 << i)) != 0) {
+                ids.add(STEPS.get(i));
+            }
+        }
+        this.stepIds = List.copyOf(ids);
+    }
+
+    /**
+     * Returns the plan of the shape of a registration command.
+     *
+     * @param command the registration command
+     * @return the cached plan of its party kind and present sections
+     */
+    public static RegisterCustomerPlan of(RegisterCustomerCommand command) {
+        PartyKind partyKind = command.party() != null ? PartyKind.of(command.party().partyKind()) : null;
+        // 0 for any other party kind
+        int kind = partyKind != null ? partyKind.ordinal() + 1 : 0;
+        int shape = kind << STEPS.size()
+                | bit(STEP_REGISTER_PARTY)
+                | present(STEP_REGISTER_NATURAL_PERSON, command.naturalPerson())
+                | present(STEP_REGISTER_LEGAL_PERSON, command.legalPerson())
+                | present(STEP_REGISTER_STATUS_ENTRY, command.statusHistory())
+                | present(STEP_REGISTER_PEP, command.pep())
+                | present(STEP_REGISTER_IDENTITY_DOCUMENT, command.identityDocuments())
+                | present(STEP_REGISTER_ADDRESS, command.addresses())
+                | present(STEP_REGISTER_EMAIL, command.emails())
+                | present(STEP_REGISTER_PHONE, command.phones())
+                | present(STEP_REGISTER_ECONOMIC_ACTIVITY_LINK, command.economicActivities())
+                | present(STEP_REGISTER_CONSENT, command.consents())
+                | present(STEP_REGISTER_PARTY_PROVIDER, command.providers())
+                | present(STEP_REGISTER_PARTY_RELATIONSHIP, command.relationships())
+                | present(STEP_REGISTER_PARTY_GROUP_MEMBERSHIP, command.groupMemberships());
+        return PLANS.computeIfAbsent(shape, RegisterCustomerPlan::new);
+    }
+
+    /**
+     * Tells whether a step of the saga running in a context is planned. Executions started
+     * without a plan, such as compensations run by the saga recovery, plan every step.
+     *
+     * @param ctx the saga context
+     * @param stepId the step
+     * @return true if the step is to run
+     */
+    public static boolean isPlanned(SagaContext ctx, String stepId) {
+        RegisterCustomerPlan plan = CustomerSagaContext.of(ctx).getPlan();
+        return plan == null || plan.includes(stepId);
+    }
+
+    /**
+     * Records the plan in the saga context for the steps to consult.
+     *
+     * @param ctx the saga context of the registration
+     */
+    public void attachTo(CustomerSagaContext ctx) {
+        ctx.setPlan(this);
+    }
+
+    public boolean includes(String stepId) {
+        return (steps & bit(stepId)) != 0;
+    }
+
+    /**
+     * @return the planned step ids, in declaration order
+     */
+    public List<String> stepIds() {
+        return stepIds;
+    }
+
+    /**
+     * Assigns every planned section of the command to the step registering it; list sections are
+     * expanded so that each item runs as its own step invocation.
+     *
+     * @param command the registration command, of this plan's shape
+     * @return the step inputs of the registration saga
+     */
+    public StepInputs inputs(RegisterCustomerCommand command) {
+        var builder = StepInputs.builder()
+                .forStep(RegisterCustomerOrchestrator::registerParty, command.party());
+        if (includes(STEP_REGISTER_NATURAL_PERSON)) {
+            builder.forStep(RegisterCustomerOrchestrator::registerNaturalPerson, command.naturalPerson());
+        }
+        if (includes(STEP_REGISTER_LEGAL_PERSON)) {
+            builder.forStep(RegisterCustomerOrchestrator::registerLegalPerson, command.legalPerson());
+        }
+        if (includes(STEP_REGISTER_STATUS_ENTRY)) {
+            builder.forStep(RegisterCustomerOrchestrator::registerStatusEntry, ExpandEach.of(command.statusHistory()));
+        }
+        if (includes(STEP_REGISTER_PEP)) {
+            builder.forStep(RegisterCustomerOrchestrator::registerPep, command.pep());
+        }
+        if (includes(STEP_REGISTER_IDENTITY_DOCUMENT)) {
+            builder.forStep(RegisterCustomerOrchestrator::registerIdentityDocument, ExpandEach.of(command.identityDocuments()));
+        }
+        if (includes(STEP_REGISTER_ADDRESS)) {
+            builder.forStep(RegisterCustomerOrchestrator::registerAddress, ExpandEach.of(command.addresses()));
+        }
+        if (includes(STEP_REGISTER_EMAIL)) {
+            builder.forStep(RegisterCustomerOrchestrator::registerEmail, ExpandEach.of(command.emails()));
+        }
+        if (includes(STEP_REGISTER_PHONE)) {
+            builder.forStep(RegisterCustomerOrchestrator::registerPhone, ExpandEach.of(command.phones()));
+        }
+        if (includes(STEP_REGISTER_ECONOMIC_ACTIVITY_LINK)) {
+            builder.forStep(RegisterCustomerOrchestrator::registerEconomicActivityLink, ExpandEach.of(command.economicActivities()));
+        }
+        if (includes(STEP_REGISTER_CONSENT)) {
+            builder.forStep(RegisterCustomerOrchestrator::registerConsent, ExpandEach.of(command.consents()));
+        }
+        if (includes(STEP_REGISTER_PARTY_PROVIDER)) {
+            builder.forStep(RegisterCustomerOrchestrator::registerPartyProvider, ExpandEach.of(command.providers()));
+        }
+        if (includes(STEP_REGISTER_PARTY_RELATIONSHIP)) {
+            builder.forStep(RegisterCustomerOrchestrator::registerPartyRelationship, ExpandEach.of(command.relationships()));
+        }
+        if (includes(STEP_REGISTER_PARTY_GROUP_MEMBERSHIP)) {
+            builder.forStep(RegisterCustomerOrchestrator::registerPartyGroupMembership, ExpandEach.of(command.groupMemberships()));
+        }
+        return builder.build();
+    }
+
+    @Override
+    public String toString() {
+        return "RegisterCustomerPlan" + stepIds;
+    }
+
+    private static int present(String stepId, Object section) {
+        boolean present = section instanceof Collection<?> items ? !items.isEmpty() : section != null;
+        return present ? bit(stepId) : 0;
+    }
+
+    private static int bit(String stepId) {
+        return BITS.getOrDefault(stepId, 0);
+    }
+}
@@ -2,6 +2,7 @@ package com.firefly.domain.people.core.orchestrator.customer;
 
 import com.firefly.domain.people.core.integration.client.CustomersClient;
 import com.firefly.domain.people.core.integration.mapper.CustomersMapper;
+import com.firefly.domain.people.core.orchestrator.support.SagaStepExecutor;
 import com.firefly.domain.people.interfaces.dto.commands.*;
 import com.firefly.domain.people.interfaces.dto.query.PartyView;
 import com.firefly.transactionalengine.annotations.FromStep;
@@ -15,7 +16,6 @@ import reactor.core.publisher.Mono;
 
 import java.util.Objects;
 
-import static com.firefly.domain.people.core.orchestrator.GlobalConstants.*;
 import static com.firefly.domain.people.core.orchestrator.customer.RegisterCustomerConstants.*;
 
 /**
@@ -35,18 +35,20 @@ public class UpdateNameOrchestrator {
 
     private final CustomersClient customersClient;
     private final CustomersMapper customersMapper;
+    private final SagaStepExecutor stepExecutor;
 
     @Autowired
-    public UpdateNameOrchestrator(CustomersClient customersClient, CustomersMapper customersMapper) {
+    public UpdateNameOrchestrator(CustomersClient customersClient, CustomersMapper customersMapper,
+                                  SagaStepExecutor stepExecutor) {
         this.customersClient = customersClient;
         this.customersMapper = customersMapper;
+        this.stepExecutor = stepExecutor;
     }
 
     @SagaStep(id = STEP_RETRIEVE_PARTY_ID)
     @StepEvent(type = EVENT_PARTY_RETRIEVED)
     public Mono<PartyView> retrievePartyId(UpdateNameCommand cmd, SagaContext ctx) {
-        return customersClient
-                .getParty(cmd.partyId())
+        return stepExecutor.execute(ctx, STEP_RETRIEVE_PARTY_ID, cmd, () -> customersClient.getParty(cmd.partyId()))
                 .mapNotNull(partyDTOResponseEntity ->
                         customersMapper.toPartyView(Objects.requireNonNull(partyDTOResponseEntity.getBody())));
     }
@@ -54,35 +56,38 @@ public class UpdateNameOrchestrator {
     @SagaStep(id = STEP_RETRIEVE_CUSTOMER, dependsOn = STEP_RETRIEVE_PARTY_ID)
     @StepEvent(type = EVENT_CUSTOMER_RETRIEVED)
     public Mono<Long> retrieveCustomer(UpdateNameCommand cmd, SagaContext ctx, @FromStep(STEP_RETRIEVE_PARTY_ID) PartyView partyView) {
-        if (TYPE_NATURAL_PERSON.equals(partyView.getPartyKind())) {
-            return customersClient
-                    .getNaturalPerson(cmd.partyId())
-                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getNaturalPersonId()))
-                    .doOnNext(naturalPersonId -> ctx.variables().put(CTX_CUSTOMER_ID, naturalPersonId));
-        } else if (TYPE_LEGAL_ENTITY.equals(partyView.getPartyKind())) {
-            return customersClient
-                    .getLegalEntity(cmd.partyId())
-                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getLegalEntityId()))
-                    .doOnNext(legalEntityId -> ctx.variables().put(CTX_CUSTOMER_ID, legalEntityId));
-        } else {
+        CustomerSagaContext customer = CustomerSagaContext.of(ctx);
+        PartyKind partyKind = PartyKind.of(partyView.getPartyKind());
+        if (partyKind == null) {
             return Mono.error(new IllegalArgumentException("Unsupported party kind: " + partyView.getPartyKind()));
         }
+        customer.setPartyKind(partyKind);
+        return switch (partyKind) {
+            case INDIVIDUAL -> stepExecutor.execute(ctx, STEP_RETRIEVE_CUSTOMER, cmd, () -> customersClient.getNaturalPerson(cmd.partyId()))
+                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getNaturalPersonId()))
+                    .doOnNext(customer::setCustomerId);
+            case ORGANIZATION -> stepExecutor.execute(ctx, STEP_RETRIEVE_CUSTOMER, cmd, () -> customersClient.getLegalEntity(cmd.partyId()))
+                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getLegalEntityId()))
+                    .doOnNext(customer::setCustomerId);
+        };
     }
 
     @SagaStep(id = STEP_UPDATE_CUSTOMER_NAME, dependsOn = STEP_RETRIEVE_CUSTOMER)
     @StepEvent(type = EVENT_CUSTOMER_NAME_CHANGED)
     public Mono<Long> updateName(UpdateNameCommand cmd, SagaContext ctx, @FromStep(STEP_RETRIEVE_PARTY_ID) PartyView partyView) {
-        if (TYPE_NATURAL_PERSON.equals(partyView.getPartyKind())) {
-            return customersClient
-                    .updateNaturalPerson(cmd.partyId(), (Long)ctx.variables().get(CTX_CUSTOMER_ID), cmd.newName())
-                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getNaturalPersonId()));
-        } else if (TYPE_LEGAL_ENTITY.equals(partyView.getPartyKind())) {
-            return customersClient
-                    .updateLegalEntity(cmd.partyId(), (Long)ctx.variables().get(CTX_CUSTOMER_ID), cmd.newName())
-                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getLegalEntityId()));
-        } else {
+        CustomerSagaContext customer = CustomerSagaContext.of(ctx);
+        PartyKind partyKind = customer.getPartyKind();
+        if (partyKind == null) {
             return Mono.error(new IllegalArgumentException("Unsupported party kind: " + partyView.getPartyKind()));
         }
+        return switch (partyKind) {
+            case INDIVIDUAL -> stepExecutor.execute(ctx, STEP_UPDATE_CUSTOMER_NAME, cmd,
+                            () -> customersClient.updateNaturalPerson(cmd.partyId(), customer.getCustomerId(), cmd.newName()))
+                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getNaturalPersonId()));
+            case ORGANIZATION -> stepExecutor.execute(ctx, STEP_UPDATE_CUSTOMER_NAME, cmd,
+                            () -> customersClient.updateLegalEntity(cmd.partyId(), customer.getCustomerId(), cmd.newName()))
+                    .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getLegalEntityId()));
+        };
     }
 
 
@@ -1,6 +1,7 @@
 package com.firefly.domain.people.core.orchestrator.email;
 
 import com.firefly.domain.people.core.integration.client.CustomersClient;
+import com.firefly.domain.people.core.orchestrator.support.SagaStepExecutor;
 import com.firefly.domain.people.interfaces.dto.commands.RegisterEmailCommand;
 import com.firefly.transactionalengine.annotations.Saga;
 import com.firefly.transactionalengine.annotations.SagaStep;
@@ -31,10 +32,12 @@ import static com.firefly.domain.people.core.orchestrator.email.EmailConstants.*
 public class AddEmailOrchestrator {
 
     private final CustomersClient customersClient;
+    private final SagaStepExecutor stepExecutor;
 
     @Autowired
-    public AddEmailOrchestrator(CustomersClient customersClient) {
+    public AddEmailOrchestrator(CustomersClient customersClient, SagaStepExecutor stepExecutor) {
         this.customersClient = customersClient;
+        this.stepExecutor = stepExecutor;
     }
 
     @SagaStep(id = STEP_ADD_NEW_EMAIL)
@@ -42,7 +45,7 @@ public class AddEmailOrchestrator {
     public Mono<Long> registerEmail(RegisterEmailCommand cmd, SagaContext ctx) {
         return cmd == null
                 ? Mono.empty()
-                : customersClient.createEmail(cmd.partyId(), cmd)
+                : stepExecutor.execute(ctx, STEP_ADD_NEW_EMAIL, cmd, () -> customersClient.createEmail(cmd.partyId(), cmd))
                 .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getEmailContactId()))
                 .doOnNext(emailId -> ctx.variables().put(CTX_PARTY_ID, cmd.partyId()));
     }
@@ -0,0 +1,401 @@
+package com.firefly.domain.people.core.orchestrator.journal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.domain.people.core.orchestrator.properties.SagaProperties;
+import com.firefly.transactionalengine.core.SagaContext;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Local append-only journal of saga executions.
+ *
+ * Records the start of a saga, the id created by every completed step together with the scalar
+ * saga context variables, and the end of the saga, as JSON lines in numbered segment files. A
+ * step whose created entity cannot be found again without its id is also recorded before its
+ * call is sent, with its input and idempotency key (see {@link #recordStepStarting}). A
+ * saga whose end is missing was interrupted by a restart; {@link SagaRecovery} reads those from
+ * the segments left by the previous run and resumes or compensates them.
+ *
+ * Records are handed to a single writer thread, so that no saga waits on disk I/O, and written
+ * in batches with one write, and one sync when enabled, per batch. Segments written by the
+ * current run are deleted once no saga started in them is still running. A saga whose execution
+ * errors or is cancelled gets no end record, so that it is recovered after a restart; its records
+ * are copied into every new segment instead of keeping the old ones. Segments of the previous run
+ * are deleted by {@link #discardPreviousSegments()} after recovery.
+ */
+@Slf4j
+@Component
+public class SagaJournal {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(10);
+
+    private final SagaProperties.Journal properties;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final List<Path> previousSegments;
+    private final Sinks.Many<Pending> records = Sinks.many().unicast().onBackpressureBuffer();
+    private final CountDownLatch drained = new CountDownLatch(1);
+    private final Scheduler writer;
+
+    // owned by the writer thread
+    private final Map<String, RunningSaga> runningSagas = new HashMap<>();
+    private final Map<String, List<SagaJournalEntry>> abandonedSagas = new LinkedHashMap<>();
+    private long oldestSegment;
+    private long activeSegment;
+    private FileChannel channel;
+
+    @Autowired
+    public SagaJournal(SagaProperties sagaProperties, ObjectMapper objectMapper) throws IOException {
+        this.properties = sagaProperties.getJournal();
+        this.objectMapper = objectMapper;
+        this.directory = Path.of(properties.getDirectory());
+        if (!properties.isEnabled()) {
+            this.previousSegments = List.of();
+            this.writer = null;
+            return;
+        }
+        Files.createDirectories(directory);
+        this.previousSegments = listSegments();
+        this.oldestSegment = previousSegments.isEmpty() ? 1 : segmentNumber(previousSegments.get(previousSegments.size() - 1)) + 1;
+        openSegment(oldestSegment);
+        this.writer = Schedulers.newSingle("saga-journal");
+        records.asFlux()
+                .publishOn(writer)
+                .bufferTimeout(properties.getBatchSize(), properties.getBatchDelay(), writer)
+                .subscribe(this::write,
+                        error -> {
+                            log.error("Saga journal writer stopped", error);
+                            drained.countDown();
+                        },
+                        drained::countDown);
+    }
+
+    /**
+     * Journals a saga execution: its start on subscription and its end once the engine returned a
+     * result. An execution that errors or is cancelled is left unfinished and therefore recovered
+     * on the next startup.
+     *
+     * @param ctx the saga context, whose correlation id identifies the execution
+     * @param saga the saga name
+     * @param payload the saga input needed to resume it, or null if the saga is only compensated
+     * @param execution the saga execution
+     * @return the execution, journaled
+     */
+    public <T> Mono<T> track(SagaContext ctx, String saga, Object payload, Mono<T> execution) {
+        if (!properties.isEnabled()) {
+            return execution;
+        }
+        return Mono.defer(() -> {
+            String sagaId = ctx.correlationId();
+            JsonNode input = payload == null ? null : objectMapper.valueToTree(payload);
+            append(new Pending(SagaJournalEntry.begin(sagaId, saga, input), false, null));
+            return execution
+                    .doOnNext(result -> finished(sagaId))
+                    .doOnError(error -> abandoned(sagaId))
+                    .doOnCancel(() -> abandoned(sagaId));
+        });
+    }
+
+    /**
+     * Records a completed step and the scalar saga context variables at that point.
+     *
+     * @param ctx the saga context of the running execution
+     * @param stepId the completed step
+     * @param id the id of the entity created by the step
+     */
+    public void recordStep(SagaContext ctx, String stepId, Long id) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Map<String, Object> variables = new LinkedHashMap<>();
+        ctx.variables().forEach((name, value) -> {
+            if (value instanceof Number || value instanceof String) {
+                variables.put(name, value);
+            }
+        });
+        append(new Pending(SagaJournalEntry.step(ctx.correlationId(), stepId, id, variables), false, null));
+    }
+
+    /**
+     * Records a step about to send its call, so that recovery can repeat the call with the same
+     * idempotency key to learn the id of an entity created just before a crash.
+     *
+     * @param ctx the saga context of the running execution
+     * @param stepId the step about to run
+     * @param input the step input
+     * @param idempotencyKey the idempotency key the call is sent with
+     * @return a Mono completing once the record is written
+     */
+    public Mono<Void> recordStepStarting(SagaContext ctx, String stepId, Object input, String idempotencyKey) {
+        if (!properties.isEnabled()) {
+            return Mono.empty();
+        }
+        return Mono.defer(() -> {
+            Sinks.Empty<Void> written = Sinks.empty();
+            append(new Pending(SagaJournalEntry.starting(ctx.correlationId(), stepId,
+                    objectMapper.valueToTree(input), idempotencyKey), false, written));
+            // the writer thread only writes; the saga goes on elsewhere
+            return written.asMono().publishOn(Schedulers.parallel());
+        });
+    }
+
+    /**
+     * Records the end of a saga.
+     *
+     * @param sagaId the correlation id of the execution
+     */
+    public void finished(String sagaId) {
+        if (properties.isEnabled()) {
+            append(new Pending(SagaJournalEntry.end(sagaId), false, null));
+        }
+    }
+
+    /**
+     * Reads the sagas that were started but not finished before the last shutdown or crash.
+     *
+     * @return the unfinished sagas, in start order
+     */
+    public List<UnfinishedSaga> unfinishedSagas() {
+        Map<String, UnfinishedSaga> unfinished = new LinkedHashMap<>();
+        for (Path segment : previousSegments) {
+            readSegment(segment).forEach(entry -> {
+                switch (entry.type()) {
+                    // a later start is a copy of an abandoned saga, holding all of its steps
+                    case BEGIN -> unfinished.put(entry.sagaId(), new UnfinishedSaga(
+                            entry.sagaId(), entry.saga(), entry.payload(), new ArrayList<>(), new ArrayList<>()));
+                    case STARTING -> {
+                        UnfinishedSaga saga = unfinished.get(entry.sagaId());
+                        if (saga != null) {
+                            saga.startedSteps().add(entry);
+                        }
+                    }
+                    case STEP -> {
+                        UnfinishedSaga saga = unfinished.get(entry.sagaId());
+                        if (saga != null) {
+                            saga.steps().add(entry);
+                            saga.startedSteps().removeIf(started -> started.stepId().equals(entry.stepId()));
+                        }
+                    }
+                    case END -> unfinished.remove(entry.sagaId());
+                }
+            });
+        }
+        return List.copyOf(unfinished.values());
+    }
+
+    /**
+     * Deletes the segments of the previous run. Called once every unfinished saga was recovered.
+     */
+    public void discardPreviousSegments() {
+        previousSegments.forEach(this::delete);
+    }
+
+    /**
+     * Writes the records handed over so far and closes the active segment.
+     */
+    @PreDestroy
+    void close() throws IOException, InterruptedException {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        records.emitComplete(Sinks.EmitFailureHandler.busyLooping(CLOSE_TIMEOUT));
+        if (!drained.await(CLOSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("Saga journal records still pending on shutdown");
+        }
+        writer.dispose();
+        channel.close();
+    }
+
+    private void abandoned(String sagaId) {
+        append(new Pending(SagaJournalEntry.end(sagaId), true, null));
+    }
+
+    private void append(Pending pending) {
+        records.emitNext(pending, Sinks.EmitFailureHandler.busyLooping(CLOSE_TIMEOUT));
+    }
+
+    private void write(List<Pending> batch) {
+        try {
+            ByteArrayOutputStream lines = new ByteArrayOutputStream();
+            for (Pending pending : batch) {
+                SagaJournalEntry entry = pending.entry();
+                if (pending.abandoned()) {
+                    RunningSaga saga = runningSagas.remove(entry.sagaId());
+                    if (saga != null) {
+                        abandonedSagas.put(entry.sagaId(), saga.records());
+                    }
+                    continue;
+                }
+                switch (entry.type()) {
+                    case BEGIN -> runningSagas.put(entry.sagaId(), new RunningSaga(activeSegment, new ArrayList<>(List.of(entry))));
+                    case STARTING, STEP -> {
+                        RunningSaga saga = runningSagas.get(entry.sagaId());
+                        if (saga != null) {
+                            saga.records().add(entry);
+                        }
+                    }
+                    case END -> {
+                        runningSagas.remove(entry.sagaId());
+                        abandonedSagas.remove(entry.sagaId());
+                    }
+                }
+                lines.write(objectMapper.writeValueAsBytes(entry));
+                lines.write('\n');
+            }
+            writeFully(lines.toByteArray());
+            batch.forEach(Pending::acknowledge);
+            if (channel.size() >= properties.getSegmentSize()) {
+                rollSegment();
+            }
+        } catch (IOException e) {
+            log.error("Unable to append {} records to the saga journal", batch.size(), e);
+            batch.forEach(pending -> pending.fail(e));
+        }
+    }
+
+    private void writeFully(byte[] lines) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(lines);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        if (properties.isSyncOnWrite()) {
+            channel.force(false);
+        }
+    }
+
+    private void rollSegment() throws IOException {
+        channel.close();
+        openSegment(activeSegment + 1);
+        if (!abandonedSagas.isEmpty()) {
+            ByteArrayOutputStream lines = new ByteArrayOutputStream();
+            for (List<SagaJournalEntry> saga : abandonedSagas.values()) {
+                for (SagaJournalEntry entry : saga) {
+                    lines.write(objectMapper.writeValueAsBytes(entry));
+                    lines.write('\n');
+                }
+            }
+            writeFully(lines.toByteArray());
+        }
+        long oldestInUse = runningSagas.values().stream().mapToLong(RunningSaga::segment).min().orElse(activeSegment);
+        for (; oldestSegment < oldestInUse; oldestSegment++) {
+            delete(segmentPath(oldestSegment));
+        }
+    }
+
+    private void openSegment(long segment) throws IOException {
+        this.activeSegment = segment;
+        this.channel = FileChannel.open(segmentPath(segment),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private List<SagaJournalEntry> readSegment(Path segment) {
+        List<SagaJournalEntry> entries = new ArrayList<>();
+        try (Stream<String> lines = Files.lines(segment, StandardCharsets.UTF_8)) {
+            lines.filter(line -> !line.isBlank()).forEach(line -> {
+                try {
+                    entries.add(objectMapper.readValue(line, SagaJournalEntry.class));
+                } catch (IOException e) {
+                    // a record torn by the crash; everything before it is still valid
+                    log.warn("Skipping unreadable saga journal record in {}", segment);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read saga journal segment " + segment, e);
+        }
+        return entries;
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(file -> file.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted((a, b) -> Long.compare(segmentNumber(a), segmentNumber(b)))
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("%s%010d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+
+    private static long segmentNumber(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private void delete(Path segment) {
+        try {
+            Files.deleteIfExists(segment);
+        } catch (IOException e) {
+            log.warn("Unable to delete saga journal segment {}", segment, e);
+        }
+    }
+
+    /**
+     * A saga found started but not finished in the journal.
+     *
+     * @param sagaId the correlation id of the interrupted execution
+     * @param saga the saga name
+     * @param payload the saga input, if the saga was journaled as resumable
+     * @param steps the completed steps, in completion order
+     * @param startedSteps the steps recorded as starting whose completion is missing
+     */
+    public record UnfinishedSaga(String sagaId, String saga, JsonNode payload, List<SagaJournalEntry> steps,
+                                 List<SagaJournalEntry> startedSteps) {
+    }
+
+    /**
+     * A record handed to the writer, or, when abandoned, the notice that the execution of a saga
+     * ended without a result; nothing is written for it. The writer signals {@code written}, if
+     * set, once the record is written.
+     */
+    private record Pending(SagaJournalEntry entry, boolean abandoned, Sinks.Empty<Void> written) {
+
+        void acknowledge() {
+            if (written != null) {
+                written.tryEmitEmpty();
+            }
+        }
+
+        void fail(IOException error) {
+            if (written != null) {
+                written.tryEmitError(new UncheckedIOException("Unable to write the saga journal", error));
+            }
+        }
+    }
+
+    /**
+     * A saga of the current run still executing: the segment holding its start and its records.
+     */
+    private record RunningSaga(long segment, List<SagaJournalEntry> records) {
+    }
+}
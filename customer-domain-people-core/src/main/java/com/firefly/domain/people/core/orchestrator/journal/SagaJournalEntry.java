@@ -0,0 +1,48 @@
+package com.firefly.domain.people.core.orchestrator.journal;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Map;
+
+/**
+ * One line of the saga journal.
+ *
+ * @param type the kind of record
+ * @param sagaId the correlation id of the saga execution
+ * @param saga the saga name, set on {@link Type#BEGIN}
+ * @param payload the saga input needed to run it again, set on {@link Type#BEGIN} when the saga can be resumed,
+ *                or the step input, set on {@link Type#STARTING}
+ * @param stepId the completed step, set on {@link Type#STEP}, or the step about to run, set on {@link Type#STARTING}
+ * @param id the id created by the completed step, set on {@link Type#STEP}
+ * @param variables the scalar saga context variables after the step, set on {@link Type#STEP}
+ * @param idempotencyKey the idempotency key the step call is sent with, set on {@link Type#STARTING}
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SagaJournalEntry(Type type,
+                               String sagaId,
+                               String saga,
+                               JsonNode payload,
+                               String stepId,
+                               Long id,
+                               Map<String, Object> variables,
+                               String idempotencyKey) {
+
+    public enum Type { BEGIN, STARTING, STEP, END }
+
+    static SagaJournalEntry begin(String sagaId, String saga, JsonNode payload) {
+        return new SagaJournalEntry(Type.BEGIN, sagaId, saga, payload, null, null, null, null);
+    }
+
+    static SagaJournalEntry step(String sagaId, String stepId, Long id, Map<String, Object> variables) {
+        return new SagaJournalEntry(Type.STEP, sagaId, null, null, stepId, id, variables, null);
+    }
+
+    static SagaJournalEntry starting(String sagaId, String stepId, JsonNode input, String idempotencyKey) {
+        return new SagaJournalEntry(Type.STARTING, sagaId, null, input, stepId, null, null, idempotencyKey);
+    }
+
+    static SagaJournalEntry end(String sagaId) {
+        return new SagaJournalEntry(Type.END, sagaId, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,188 @@
+package com.firefly.domain.people.core.orchestrator.journal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.domain.people.core.integration.client.CustomersClient;
+import com.firefly.domain.people.core.integration.client.IdempotencyKey;
+import com.firefly.domain.people.core.orchestrator.customer.CustomerSagaContext;
+import com.firefly.domain.people.core.orchestrator.customer.PartyKind;
+import com.firefly.domain.people.core.orchestrator.customer.RegisterCustomerOrchestrator;
+import com.firefly.domain.people.core.orchestrator.properties.SagaProperties;
+import com.firefly.domain.people.core.orchestrator.status.UpdateStatusOrchestrator;
+import com.firefly.domain.people.interfaces.dto.commands.RegisterPartyCommand;
+import com.firefly.domain.people.interfaces.dto.commands.RegisterPartyStatusEntryCommand;
+import com.firefly.transactionalengine.core.SagaContext;
+import com.firefly.transactionalengine.engine.SagaEngine;
+import com.firefly.transactionalengine.engine.StepInputs;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import static com.firefly.domain.people.core.orchestrator.GlobalConstants.CTX_CUSTOMER_TYPE;
+import static com.firefly.domain.people.core.orchestrator.GlobalConstants.CTX_PARTY_ID;
+import static com.firefly.domain.people.core.orchestrator.customer.RegisterCustomerConstants.*;
+import static com.firefly.domain.people.core.orchestrator.status.StatusConstants.SAGA_UPDATE_STATUS_NAME;
+import static java.util.Map.entry;
+
+/**
+ * Recovers the sagas left unfinished in the {@link SagaJournal} by a restart.
+ *
+ * A registration is rolled back: the entities recorded by its completed steps are removed in
+ * reverse order and the party last, through the compensations of
+ * {@link RegisterCustomerOrchestrator}. When the party step was recorded as starting but not as
+ * completed, its call is sent again with the journaled idempotency key, which yields the party
+ * created before the restart, if any, to remove it. A status update is resumed by running the saga again with
+ * its journaled command under the same saga id, so the downstream call reuses its idempotency key.
+ * The previous segments are discarded only when every saga was recovered; otherwise the remaining
+ * ones are attempted again on the next startup.
+ */
+@Slf4j
+@Component
+public class SagaRecovery {
+
+    private final SagaJournal journal;
+    private final SagaEngine engine;
+    private final CustomersClient customersClient;
+    private final ObjectMapper objectMapper;
+    private final RegisterCustomerOrchestrator registerCustomerOrchestrator;
+    private final Map<String, BiFunction<Long, SagaContext, Mono<Void>>> registrationCompensations;
+    private final int concurrency;
+
+    @Autowired
+    public SagaRecovery(SagaJournal journal, SagaEngine engine, CustomersClient customersClient, ObjectMapper objectMapper,
+                        RegisterCustomerOrchestrator registerCustomerOrchestrator, SagaProperties sagaProperties) {
+        this.journal = journal;
+        this.engine = engine;
+        this.customersClient = customersClient;
+        this.objectMapper = objectMapper;
+        this.registerCustomerOrchestrator = registerCustomerOrchestrator;
+        this.concurrency = sagaProperties.getJournal().getRecoveryConcurrency();
+        this.registrationCompensations = Map.ofEntries(
+                entry(STEP_REGISTER_NATURAL_PERSON, registerCustomerOrchestrator::removeNaturalPerson),
+                entry(STEP_REGISTER_LEGAL_PERSON, registerCustomerOrchestrator::removeLegalPerson),
+                entry(STEP_REGISTER_STATUS_ENTRY, registerCustomerOrchestrator::removeStatusEntry),
+                entry(STEP_REGISTER_PEP, registerCustomerOrchestrator::removePep),
+                entry(STEP_REGISTER_IDENTITY_DOCUMENT, registerCustomerOrchestrator::removeIdentityDocument),
+                entry(STEP_REGISTER_ADDRESS, registerCustomerOrchestrator::removeAddress),
+                entry(STEP_REGISTER_EMAIL, registerCustomerOrchestrator::removeEmail),
+                entry(STEP_REGISTER_PHONE, registerCustomerOrchestrator::removePhone),
+                entry(STEP_REGISTER_ECONOMIC_ACTIVITY_LINK, registerCustomerOrchestrator::removeEconomicActivityLink),
+                entry(STEP_REGISTER_CONSENT, registerCustomerOrchestrator::removeConsent),
+                entry(STEP_REGISTER_PARTY_PROVIDER, registerCustomerOrchestrator::removePartyProvider),
+                entry(STEP_REGISTER_PARTY_RELATIONSHIP, registerCustomerOrchestrator::removePartyRelationship),
+                entry(STEP_REGISTER_PARTY_GROUP_MEMBERSHIP, registerCustomerOrchestrator::removePartyGroupMembership));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        List<SagaJournal.UnfinishedSaga> unfinished = journal.unfinishedSagas();
+        if (unfinished.isEmpty()) {
+            journal.discardPreviousSegments();
+            return;
+        }
+        log.info("Recovering {} unfinished sagas from the saga journal", unfinished.size());
+        AtomicInteger failures = new AtomicInteger();
+        Flux.fromIterable(unfinished)
+                .flatMap(saga -> recover(saga)
+                        .doOnSuccess(ignored -> journal.finished(saga.sagaId()))
+                        .onErrorResume(error -> {
+                            failures.incrementAndGet();
+                            log.warn("Unable to recover saga {} ({})", saga.sagaId(), saga.saga(), error);
+                            return Mono.empty();
+                        }), concurrency)
+                .doOnComplete(() -> {
+                    if (failures.get() == 0) {
+                        journal.discardPreviousSegments();
+                    }
+                })
+                .subscribe();
+    }
+
+    private Mono<Void> recover(SagaJournal.UnfinishedSaga saga) {
+        return switch (saga.saga()) {
+            case SAGA_REGISTER_CUSTOMER_NAME -> compensateRegistration(saga);
+            case SAGA_UPDATE_STATUS_NAME -> resumeStatusUpdate(saga);
+            default -> Mono.fromRunnable(() -> log.warn("No recovery for saga {} ({})", saga.sagaId(), saga.saga()));
+        };
+    }
+
+    private Mono<Void> compensateRegistration(SagaJournal.UnfinishedSaga saga) {
+        List<SagaJournalEntry> steps = new ArrayList<>(saga.steps());
+        Collections.reverse(steps);
+        if (steps.isEmpty()) {
+            return saga.startedSteps().stream()
+                    .filter(step -> STEP_REGISTER_PARTY.equals(step.stepId()))
+                    .findFirst()
+                    .map(step -> compensateStartedParty(saga.sagaId(), step))
+                    // the party call was never sent
+                    .orElse(Mono.empty());
+        }
+        CustomerSagaContext ctx = new CustomerSagaContext(saga.sagaId());
+        steps.get(0).variables().forEach((name, value) ->
+                ctx.variables().put(name, CTX_PARTY_ID.equals(name) ? ((Number) value).longValue() : value));
+        Long partyId = (Long) ctx.variables().get(CTX_PARTY_ID);
+        ctx.setPartyId(partyId);
+        if (ctx.variables().get(CTX_CUSTOMER_TYPE) instanceof String partyKind) {
+            ctx.setPartyKind(PartyKind.of(partyKind));
+        }
+
+        Mono<Void> children = Flux.fromIterable(steps)
+                .filter(step -> registrationCompensations.containsKey(step.stepId()))
+                .concatMap(step -> registrationCompensations.get(step.stepId()).apply(step.id(), ctx))
+                .then();
+        return children.then(Mono.defer(() -> registerCustomerOrchestrator.removeParty(partyId, ctx)));
+    }
+
+    /**
+     * Removes the party of a registration interrupted while its party call was in flight. The call
+     * is repeated with its idempotency key, so customer-mgmt answers with the party it created
+     * then; should it have forgotten the key, the party created now is removed just the same.
+     */
+    private Mono<Void> compensateStartedParty(String sagaId, SagaJournalEntry started) {
+        RegisterPartyCommand command;
+        try {
+            command = objectMapper.treeToValue(started.payload(), RegisterPartyCommand.class);
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+        CustomerSagaContext ctx = new CustomerSagaContext(sagaId);
+        return customersClient.createParty(command)
+                .contextWrite(IdempotencyKey.of(started.idempotencyKey()))
+                .mapNotNull(response -> response.getBody() != null ? response.getBody().getPartyId() : null)
+                .flatMap(partyId -> {
+                    ctx.setPartyId(partyId);
+                    return registerCustomerOrchestrator.removeParty(partyId, ctx);
+                });
+    }
+
+    private Mono<Void> resumeStatusUpdate(SagaJournal.UnfinishedSaga saga) {
+        RegisterPartyStatusEntryCommand command;
+        try {
+            command = objectMapper.treeToValue(saga.payload(), RegisterPartyStatusEntryCommand.class);
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+        StepInputs inputs = StepInputs.builder()
+                .forStep(UpdateStatusOrchestrator::updateStatus, command)
+                .build();
+        return engine.execute(UpdateStatusOrchestrator.class, inputs, new CustomerSagaContext(saga.sagaId()))
+                .doOnNext(result -> {
+                    if (!result.isSuccess()) {
+                        log.warn("Resumed status saga {} failed and is not retried", saga.sagaId(),
+                                result.error().orElse(null));
+                    }
+                })
+                .then();
+    }
+}
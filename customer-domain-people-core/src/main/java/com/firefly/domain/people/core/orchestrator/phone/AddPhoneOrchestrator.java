@@ -1,6 +1,7 @@
 package com.firefly.domain.people.core.orchestrator.phone;
 
 import com.firefly.domain.people.core.integration.client.CustomersClient;
+import com.firefly.domain.people.core.orchestrator.support.SagaStepExecutor;
 import com.firefly.domain.people.interfaces.dto.commands.RegisterPhoneCommand;
 import com.firefly.transactionalengine.annotations.Saga;
 import com.firefly.transactionalengine.annotations.SagaStep;
@@ -31,10 +32,12 @@ import static com.firefly.domain.people.core.orchestrator.phone.PhoneConstants.*
 public class AddPhoneOrchestrator {
 
     private final CustomersClient customersClient;
+    private final SagaStepExecutor stepExecutor;
 
     @Autowired
-    public AddPhoneOrchestrator(CustomersClient customersClient) {
+    public AddPhoneOrchestrator(CustomersClient customersClient, SagaStepExecutor stepExecutor) {
         this.customersClient = customersClient;
+        this.stepExecutor = stepExecutor;
     }
 
     @SagaStep(id = STEP_ADD_NEW_PHONE)
@@ -42,7 +45,7 @@ public class AddPhoneOrchestrator {
     public Mono<Long> registerPhone(RegisterPhoneCommand cmd, SagaContext ctx) {
         return cmd == null
                 ? Mono.empty()
-                : customersClient.createPhone(cmd.partyId(), cmd)
+                : stepExecutor.execute(ctx, STEP_ADD_NEW_PHONE, cmd, () -> customersClient.createPhone(cmd.partyId(), cmd))
                 .mapNotNull(r -> Objects.requireNonNull(Objects.requireNonNull(r.getBody()).getPhoneContactId()))
                 .doOnNext(phoneId -> ctx.variables().put(CTX_PARTY_ID, cmd.partyId()));
     }
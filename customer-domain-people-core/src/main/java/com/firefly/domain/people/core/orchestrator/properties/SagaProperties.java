@@ -0,0 +1,178 @@
+package com.firefly.domain.people.core.orchestrator.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for saga execution.
+ * Maps the properties defined in application.yaml under saga-configuration.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "saga-configuration")
+@Getter
+@Setter
+public class SagaProperties {
+
+    private RegisterCustomer registerCustomer = new RegisterCustomer();
+    private FanOut fanOut = new FanOut();
+    private Compensation compensation = new Compensation();
+    private Journal journal = new Journal();
+    private Deadlines deadlines = new Deadlines();
+
+    @Getter
+    @Setter
+    public static class RegisterCustomer {
+
+        /**
+         * Maximum number of registration sagas running at the same time for a bulk request.
+         */
+        private int bulkConcurrency = 16;
+
+        private TaxIdIndex taxIdIndex = new TaxIdIndex();
+
+        private Async async = new Async();
+    }
+
+    @Getter
+    @Setter
+    public static class TaxIdIndex {
+
+        /**
+         * Maximum number of registered tax ids remembered.
+         */
+        private long maximumSize = 100_000;
+
+        /**
+         * Time after which a registered tax id is forgotten, bounding how long a tax id stays
+         * rejected after its party was deleted.
+         */
+        private Duration timeToLive = Duration.ofMinutes(10);
+    }
+
+    @Getter
+    @Setter
+    public static class Async {
+
+        /**
+         * Maximum number of accepted registrations waiting for a worker; further ones are rejected.
+         */
+        private int queueCapacity = 10_000;
+
+        /**
+         * Number of registration sagas run at the same time from the queue.
+         */
+        private int concurrency = 32;
+
+        /**
+         * Number of finished registrations whose status is kept for polling.
+         */
+        private int retainedResults = 100_000;
+    }
+
+    @Getter
+    @Setter
+    public static class FanOut {
+
+        /**
+         * Maximum in-flight downstream calls of one saga execution; defaults to
+         * GlobalConstants.MAX_IN_FLIGHT_PER_SAGA when unset.
+         */
+        private Integer perSaga;
+
+        /**
+         * Maximum in-flight downstream calls of one step within a saga execution, by step id;
+         * overrides the defaults declared next to the step identifiers.
+         */
+        private Map<String, Integer> perStep = new HashMap<>();
+    }
+
+    @Getter
+    @Setter
+    public static class Compensation {
+
+        /**
+         * How compensations of independent steps are run.
+         */
+        private CompensationMode mode = CompensationMode.SEQUENTIAL;
+
+        /**
+         * Maximum number of compensations running at the same time in PARALLEL mode, across all sagas.
+         */
+        private int concurrency = 32;
+
+        /**
+         * Maximum duration of a compensation, including the retries of the customer-mgmt client.
+         */
+        private Duration timeout = Duration.ofSeconds(5);
+    }
+
+    public enum CompensationMode {
+        /**
+         * Every compensation runs when the saga engine invokes it, one after the other.
+         */
+        SEQUENTIAL,
+        /**
+         * Compensations of steps that depend on a root step are dispatched at once and run
+         * concurrently; the root compensation waits for all of them before it runs.
+         */
+        PARALLEL
+    }
+
+    @Getter
+    @Setter
+    public static class Journal {
+
+        /**
+         * Whether registration and status sagas are journaled and recovered on startup.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Directory holding the journal segment files; must survive a restart of the pod.
+         */
+        private String directory = "saga-journal";
+
+        /**
+         * Size in bytes after which the active segment is closed and a new one is started.
+         */
+        private long segmentSize = 64L * 1024 * 1024;
+
+        /**
+         * Whether every record is forced to the storage device. Without it records survive a
+         * process crash but not a crash of the host.
+         */
+        private boolean syncOnWrite = false;
+
+        /**
+         * Maximum number of records written, and synced, at once by the journal writer.
+         */
+        private int batchSize = 512;
+
+        /**
+         * Maximum time a record waits for its batch to fill up before the batch is written.
+         */
+        private Duration batchDelay = Duration.ofMillis(2);
+
+        /**
+         * Number of unfinished sagas recovered at the same time on startup.
+         */
+        private int recoveryConcurrency = 4;
+    }
+
+    @Getter
+    @Setter
+    public static class Deadlines {
+
+        /**
+         * Time a saga or a saga step needs at least; it is not started when less remains before
+         * the deadline of the request that triggered it.
+         */
+        private Duration minStepBudget = Duration.ofMillis(50);
+    }
+}
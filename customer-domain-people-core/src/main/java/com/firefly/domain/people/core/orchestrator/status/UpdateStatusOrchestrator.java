@@ -1,6 +1,7 @@
 package com.firefly.domain.people.core.orchestrator.status;
 
 import com.firefly.domain.people.core.integration.client.CustomersClient;
+import com.firefly.domain.people.core.orchestrator.support.SagaStepExecutor;
 import com.firefly.domain.people.interfaces.dto.commands.RegisterPartyStatusEntryCommand;
 import com.firefly.transactionalengine.annotations.Saga;
 import com.firefly.transactionalengine.annotations.SagaStep;
@@ -23,10 +24,12 @@ import static com.firefly.domain.people.core.orchestrator.status.StatusConstants
 public class UpdateStatusOrchestrator {
 
     private final CustomersClient customersClient;
+    private final SagaStepExecutor stepExecutor;
 
     @Autowired
-    public UpdateStatusOrchestrator(CustomersClient customersClient) {
+    public UpdateStatusOrchestrator(CustomersClient customersClient, SagaStepExecutor stepExecutor) {
         this.customersClient = customersClient;
+        this.stepExecutor = stepExecutor;
     }
 
     @SagaStep(id = STEP_UPDATE_STATUS)
@@ -34,7 +37,7 @@ public class UpdateStatusOrchestrator {
     public Mono<Void> updateStatus(RegisterPartyStatusEntryCommand cmd, SagaContext ctx) {
         return cmd == null
                 ? Mono.empty()
-                : customersClient.updatePartyStatus(cmd.partyId(), cmd)
+                : stepExecutor.execute(ctx, STEP_UPDATE_STATUS, cmd, () -> customersClient.updatePartyStatus(cmd.partyId(), cmd))
                 .then();
     }
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.firefly.domain.people.core.orchestrator.support;
+
+import com.firefly.transactionalengine.core.SagaContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import static com.firefly.domain.people.core.orchestrator.GlobalConstants.CTX_CANCELLED;
+
+/**
+ * Stops sagas whose caller went away.
+ *
+ * Cancelling the subscription of a saga execution does not stop the saga at once: the
+ * execution is detached from its caller and keeps running, but every step call not yet
+ * dispatched fails with {@link com.firefly.domain.people.core.service.exceptions.SagaCancelledException}
+ * in {@link SagaStepExecutor}. The engine then compensates the steps that already completed,
+ * under the timeouts and retries of {@link SagaCompensationExecutor}, so an abandoned saga
+ * leaves nothing behind and stops taking downstream capacity. Step calls already in flight are
+ * left to finish, since their result is needed to undo them. Cancellations are counted as
+ * {@value #CANCELLED_COUNTER}, tagged by saga.
+ */
+@Component
+public class SagaCancellation {
+
+    static final String CANCELLED_COUNTER = "people.saga.cancelled";
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public SagaCancellation(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Runs a saga execution independently of the subscription to its result.
+     *
+     * @param ctx the saga context of the execution
+     * @param execution the saga execution, including whatever must complete along with it
+     * @return the result of the execution; cancelling it cancels the saga as described above
+     */
+    public <T> Mono<T> detach(SagaContext ctx, Mono<T> execution) {
+        return Mono.deferContextual(reactorCtx -> {
+            Sinks.One<T> result = Sinks.one();
+            execution.contextWrite(reactorCtx)
+                    .subscribe(result::tryEmitValue, result::tryEmitError, result::tryEmitEmpty);
+            return result.asMono()
+                    .doOnCancel(() -> cancel(ctx));
+        });
+    }
+
+    /**
+     * @param ctx the saga context of a running execution
+     * @return true if the caller of the execution cancelled it
+     */
+    public static boolean isCancelled(SagaContext ctx) {
+        return Boolean.TRUE.equals(ctx.variables().get(CTX_CANCELLED));
+    }
+
+    private void cancel(SagaContext ctx) {
+        ctx.variables().put(CTX_CANCELLED, Boolean.TRUE);
+        Counter.builder(CANCELLED_COUNTER)
+                .description("Saga executions abandoned by their caller and compensated")
+                .tag("saga", SagaMetrics.sagaOf(ctx))
+                .register(meterRegistry)
+                .increment();
+    }
+}
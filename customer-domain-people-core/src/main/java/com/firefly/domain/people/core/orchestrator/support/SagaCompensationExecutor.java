@@ -0,0 +1,131 @@
+package com.firefly.domain.people.core.orchestrator.support;
+
+import com.firefly.domain.people.core.orchestrator.properties.SagaProperties;
+import com.firefly.domain.people.core.utils.ReactivePermits;
+import com.firefly.transactionalengine.core.SagaContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static com.firefly.domain.people.core.orchestrator.GlobalConstants.CTX_COMPENSATION_BATCH;
+
+/**
+ * Runs the compensations of saga steps.
+ *
+ * Every compensation is bounded by a timeout and its latency is published as the
+ * {@value #COMPENSATION_TIMER} histogram, tagged by saga, compensation and outcome. Transient
+ * failures are retried by the customer-mgmt client alone (see {@code DownstreamRetry}), under its
+ * retry budget. A compensation answered with 404 succeeds: the entity is already gone, removed by
+ * an earlier attempt whose response was lost or by an earlier rollback.
+ *
+ * In {@link SagaProperties.CompensationMode#PARALLEL} mode, compensations registered with
+ * {@link #compensate} are dispatched as soon as the engine invokes them and run concurrently
+ * under a process-wide cap; {@link #compensateRoot} then waits for all of them before undoing
+ * the step they depend on.
+ */
+@Component
+public class SagaCompensationExecutor {
+
+    static final String COMPENSATION_TIMER = "people.saga.compensation";
+
+    private final SagaProperties.CompensationMode mode;
+    private final ReactivePermits permits;
+    private final SagaProperties.Compensation properties;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public SagaCompensationExecutor(SagaProperties sagaProperties, MeterRegistry meterRegistry) {
+        this.properties = sagaProperties.getCompensation();
+        this.mode = properties.getMode();
+        this.permits = new ReactivePermits(properties.getConcurrency());
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Compensates a step that depends on a root step of the saga.
+     *
+     * @param ctx the saga context of the execution being compensated
+     * @param compensation the compensation method name, used as metric tag
+     * @param call supplies the downstream call undoing the step
+     * @return a Mono completing when the compensation is done (SEQUENTIAL) or dispatched (PARALLEL)
+     */
+    public Mono<Void> compensate(SagaContext ctx, String compensation, Supplier<Mono<Void>> call) {
+        Mono<Void> execution = execute(ctx, compensation, call);
+        if (mode == SagaProperties.CompensationMode.SEQUENTIAL) {
+            return execution;
+        }
+        return Mono.deferContextual(reactorContext -> {
+            Mono<Void> dispatched = permits.withPermit(() -> execution)
+                    .contextWrite(reactorContext)
+                    .cache();
+            batchOf(ctx).add(dispatched);
+            dispatched.subscribe(ignored -> { }, error -> { });
+            return Mono.empty();
+        });
+    }
+
+    /**
+     * Compensates the root step of the saga once every dispatched dependent compensation has settled.
+     * Fails with the first dependent compensation error, if any, after the root compensation ran.
+     *
+     * @param ctx the saga context of the execution being compensated
+     * @param compensation the compensation method name, used as metric tag
+     * @param call supplies the downstream call undoing the root step
+     * @return a Mono completing when the whole rollback is done
+     */
+    public Mono<Void> compensateRoot(SagaContext ctx, String compensation, Supplier<Mono<Void>> call) {
+        if (mode == SagaProperties.CompensationMode.SEQUENTIAL) {
+            return execute(ctx, compensation, call);
+        }
+        return Mono.defer(() -> Mono.whenDelayError(batchOf(ctx).drain()))
+                .onErrorResume(error -> execute(ctx, compensation, call).then(Mono.error(error)))
+                .then(Mono.defer(() -> execute(ctx, compensation, call)));
+    }
+
+    private Mono<Void> execute(SagaContext ctx, String compensation, Supplier<Mono<Void>> call) {
+        String saga = SagaMetrics.sagaOf(ctx);
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return Mono.defer(call)
+                    .timeout(properties.getTimeout())
+                    .onErrorResume(WebClientResponseException.NotFound.class, notFound -> Mono.empty())
+                    .doOnSuccess(ignored -> sample.stop(timer(saga, compensation, "success")))
+                    .doOnError(error -> sample.stop(timer(saga, compensation, "failure")));
+        });
+    }
+
+    private Timer timer(String saga, String compensation, String outcome) {
+        return Timer.builder(COMPENSATION_TIMER)
+                .description("Latency of saga compensations, including client retries")
+                .tag("saga", saga)
+                .tag("compensation", compensation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private CompensationBatch batchOf(SagaContext ctx) {
+        return (CompensationBatch) ctx.variables().computeIfAbsent(CTX_COMPENSATION_BATCH, key -> new CompensationBatch());
+    }
+
+    private static final class CompensationBatch {
+        private final List<Mono<Void>> dispatched = new ArrayList<>();
+
+        private synchronized void add(Mono<Void> compensation) {
+            dispatched.add(compensation);
+        }
+
+        private synchronized List<Mono<Void>> drain() {
+            List<Mono<Void>> drained = new ArrayList<>(dispatched);
+            dispatched.clear();
+            return drained;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.firefly.domain.people.core.orchestrator.support;
+
+import com.firefly.domain.people.core.orchestrator.properties.SagaProperties;
+import com.firefly.domain.people.core.utils.ReactivePermits;
+import com.firefly.transactionalengine.core.SagaContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static com.firefly.domain.people.core.orchestrator.GlobalConstants.CTX_FAN_OUT_PERMITS;
+import static com.firefly.domain.people.core.orchestrator.GlobalConstants.MAX_IN_FLIGHT_PER_SAGA;
+import static com.firefly.domain.people.core.orchestrator.customer.RegisterCustomerConstants.MAX_IN_FLIGHT_PER_STEP;
+
+/**
+ * Bounds the number of downstream calls a saga execution has in flight.
+ *
+ * Every step call holds a permit of its step (when the step has a limit) and a permit of its
+ * saga execution. {@code ExpandEach} items beyond the limits wait in a queue instead of being
+ * sent all at once, and the time spent waiting is published as {@value #QUEUE_TIMER}.
+ */
+@Component
+public class SagaFanOutLimiter {
+
+    static final String QUEUE_TIMER = "people.saga.fanout.queue";
+
+    private final int perSagaLimit;
+    private final Map<String, Integer> perStepLimits;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public SagaFanOutLimiter(SagaProperties sagaProperties, MeterRegistry meterRegistry) {
+        SagaProperties.FanOut fanOut = sagaProperties.getFanOut();
+        this.perSagaLimit = fanOut.getPerSaga() != null ? fanOut.getPerSaga() : MAX_IN_FLIGHT_PER_SAGA;
+        this.perStepLimits = new HashMap<>(MAX_IN_FLIGHT_PER_STEP);
+        this.perStepLimits.putAll(fanOut.getPerStep());
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Runs a step call once both its step and saga permits are available.
+     *
+     * @param ctx the saga context of the running execution
+     * @param stepId the step identifier
+     * @param call supplies the downstream call
+     * @return a Mono with the result of the call
+     */
+    public <T> Mono<T> limit(SagaContext ctx, String stepId, Supplier<Mono<T>> call) {
+        SagaPermits permits = (SagaPermits) ctx.variables()
+                .computeIfAbsent(CTX_FAN_OUT_PERMITS, key -> new SagaPermits(perSagaLimit));
+        Timer queueTimer = Timer.builder(QUEUE_TIMER)
+                .description("Time a saga step call waited for a fan-out permit")
+                .tag("step", stepId)
+                .register(meterRegistry);
+
+        ReactivePermits stepPermits = permits.forStep(stepId, perStepLimits.get(stepId));
+        if (stepPermits == null) {
+            return permits.saga.withPermit(call, waited -> queueTimer.record(Duration.ofNanos(waited)));
+        }
+        // The step permit is taken first so that queued items of a large step do not hold saga permits.
+        long[] stepWait = new long[1];
+        return stepPermits.withPermit(
+                () -> permits.saga.withPermit(call,
+                        waited -> queueTimer.record(Duration.ofNanos(stepWait[0] + waited))),
+                waited -> stepWait[0] = waited);
+    }
+
+    private static final class SagaPermits {
+        private final ReactivePermits saga;
+        private final Map<String, ReactivePermits> steps = new ConcurrentHashMap<>();
+
+        private SagaPermits(int perSagaLimit) {
+            this.saga = new ReactivePermits(perSagaLimit);
+        }
+
+        private ReactivePermits forStep(String stepId, Integer limit) {
+            return limit == null ? null : steps.computeIfAbsent(stepId, key -> new ReactivePermits(limit));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.firefly.domain.people.core.orchestrator.support;
+
+import com.firefly.transactionalengine.core.SagaContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import static com.firefly.domain.people.core.orchestrator.GlobalConstants.CTX_ITEM_INDEXES;
+
+/**
+ * Derives deterministic idempotency keys for saga steps.
+ *
+ * A key is a name-based UUID of the saga execution id, the step id and the position of the
+ * step input inside its {@code ExpandEach} list, so every attempt of the same step item sends
+ * the same key downstream while distinct items never share one.
+ */
+public final class SagaIdempotencyKeys {
+
+    private SagaIdempotencyKeys() {
+    }
+
+    /**
+     * Records the position of every item of the given lists, so that expanded steps can
+     * later resolve the index of the input they were invoked with.
+     *
+     * @param ctx the saga context the keys will be derived for
+     * @param lists the lists passed to {@code ExpandEach.of(...)}; null lists are ignored
+     */
+    public static void indexItems(SagaContext ctx, Collection<?>... lists) {
+        Map<Object, Integer> indexes = new IdentityHashMap<>();
+        for (Collection<?> list : lists) {
+            if (list == null) {
+                continue;
+            }
+            int index = 0;
+            for (Object item : list) {
+                indexes.put(item, index++);
+            }
+        }
+        ctx.variables().put(CTX_ITEM_INDEXES, Collections.unmodifiableMap(indexes));
+    }
+
+    /**
+     * Derives the idempotency key of a step invocation.
+     *
+     * @param ctx the saga context of the running execution
+     * @param stepId the step identifier
+     * @param item the step input; used to resolve its ExpandEach index
+     * @return the idempotency key to send downstream
+     */
+    public static String keyFor(SagaContext ctx, String stepId, Object item) {
+        String seed = ctx.correlationId() + ':' + stepId + ':' + discriminator(ctx, item);
+        return UUID.nameUUIDFromBytes(seed.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String discriminator(SagaContext ctx, Object item) {
+        Map<Object, Integer> indexes = (Map<Object, Integer>) ctx.variables().get(CTX_ITEM_INDEXES);
+        Integer index = indexes == null ? null : indexes.get(item);
+        // Inputs that were not indexed (single-item steps, or items copied by the engine) fall back to
+        // their value hash: only identical inputs of the same step can then share a key.
+        return index != null ? String.valueOf(index) : "h" + Objects.hashCode(item);
+    }
+}
@@ -0,0 +1,121 @@
+package com.firefly.domain.people.core.orchestrator.support;
+
+import com.firefly.transactionalengine.annotations.Saga;
+import com.firefly.transactionalengine.core.SagaContext;
+import com.firefly.transactionalengine.core.SagaResult;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.firefly.domain.people.core.orchestrator.GlobalConstants.CTX_SAGA_NAME;
+
+/**
+ * Publishes saga and step latencies.
+ *
+ * Saga executions are timed as {@value #SAGA_TIMER} tagged by saga and outcome, and the executions
+ * currently running are exposed as the {@value #IN_FLIGHT_GAUGE} gauge. Step calls run through
+ * {@link SagaStepExecutor} are timed as {@value #STEP_TIMER} tagged by saga, step and outcome. All
+ * timers publish percentile histograms so that quantiles can be aggregated across instances.
+ */
+@Component
+public class SagaMetrics implements SagaStepListener {
+
+    static final String SAGA_TIMER = "people.saga.execution";
+    static final String STEP_TIMER = "people.saga.step";
+    static final String IN_FLIGHT_GAUGE = "people.saga.in.flight";
+
+    static final String UNKNOWN_SAGA = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, String> sagaNames = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SagaMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Times a saga execution and counts it as in flight until it terminates.
+     *
+     * @param orchestrator the orchestrator class, whose {@link Saga} name is used as tag
+     * @param ctx the saga context of the execution
+     * @param execution the saga execution
+     * @return the execution, instrumented
+     */
+    public Mono<SagaResult> record(Class<?> orchestrator, SagaContext ctx, Mono<SagaResult> execution) {
+        String saga = sagaNames.computeIfAbsent(orchestrator, SagaMetrics::sagaNameOf);
+        return Mono.defer(() -> {
+            ctx.variables().put(CTX_SAGA_NAME, saga);
+            AtomicInteger running = inFlight(saga);
+            running.incrementAndGet();
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return execution
+                    .doOnNext(result -> sample.stop(sagaTimer(saga, result.isSuccess() ? "success" : "compensated")))
+                    .doOnError(error -> sample.stop(sagaTimer(saga, "error")))
+                    .doOnCancel(() -> sample.stop(sagaTimer(saga, "cancelled")))
+                    .doFinally(signal -> running.decrementAndGet());
+        });
+    }
+
+    @Override
+    public void onStepSucceeded(SagaContext ctx, String stepId, Object result, long durationNanos) {
+        stepTimer(ctx, stepId, "success").record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onStepFailed(SagaContext ctx, String stepId, Throwable error, long durationNanos) {
+        stepTimer(ctx, stepId, "failure").record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the saga name recorded in the context, for tagging other saga meters.
+     */
+    static String sagaOf(SagaContext ctx) {
+        Object saga = ctx.variables().get(CTX_SAGA_NAME);
+        return saga instanceof String name ? name : UNKNOWN_SAGA;
+    }
+
+    private AtomicInteger inFlight(String saga) {
+        return inFlight.computeIfAbsent(saga, name -> {
+            AtomicInteger running = new AtomicInteger();
+            Gauge.builder(IN_FLIGHT_GAUGE, running, AtomicInteger::get)
+                    .description("Saga executions currently running")
+                    .tag("saga", name)
+                    .register(meterRegistry);
+            return running;
+        });
+    }
+
+    private Timer sagaTimer(String saga, String outcome) {
+        return Timer.builder(SAGA_TIMER)
+                .description("Latency of saga executions, including compensations")
+                .tag("saga", saga)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Timer stepTimer(SagaContext ctx, String stepId, String outcome) {
+        return Timer.builder(STEP_TIMER)
+                .description("Latency of saga step calls, including fan-out queueing and retries")
+                .tag("saga", sagaOf(ctx))
+                .tag("step", stepId)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static String sagaNameOf(Class<?> orchestrator) {
+        Saga saga = orchestrator.getAnnotation(Saga.class);
+        return saga != null ? saga.name() : orchestrator.getSimpleName();
+    }
+}
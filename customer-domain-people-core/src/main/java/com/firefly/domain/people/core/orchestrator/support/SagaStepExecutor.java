@@ -0,0 +1,90 @@
+package com.firefly.domain.people.core.orchestrator.support;
+
+import com.firefly.domain.people.core.integration.client.Deadline;
+import com.firefly.domain.people.core.integration.client.IdempotencyKey;
+import com.firefly.domain.people.core.orchestrator.properties.SagaProperties;
+import com.firefly.domain.people.core.service.exceptions.SagaCancelledException;
+import com.firefly.transactionalengine.core.SagaContext;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static com.firefly.domain.people.core.orchestrator.GlobalConstants.CTX_DEADLINE;
+
+/**
+ * Runs the downstream call of a saga step.
+ *
+ * Binds the deterministic idempotency key of the step invocation to the call, so that the
+ * customer-mgmt client may retry it on transient failures (see {@code DownstreamRetry}) and a
+ * slow or flaky downstream request costs a retry of that single request instead of a
+ * compensation of the whole saga. Calls are subject to the fan-out limits of
+ * {@link SagaFanOutLimiter}; a call keeps its permit while it is being retried. Every
+ * {@link SagaStepListener} bean is notified when a call starts and when it settles.
+ *
+ * When the saga runs on behalf of a request with a {@link Deadline}, kept in the saga context,
+ * a call is not started once less than the minimum step budget remains, its attempts are cut
+ * off at the deadline and the deadline is bound to the downstream requests. Once the caller of
+ * the saga cancelled it through {@link SagaCancellation}, no further call is started.
+ */
+@Component
+public class SagaStepExecutor {
+
+    private final SagaFanOutLimiter fanOutLimiter;
+    private final List<SagaStepListener> listeners;
+    private final Duration minStepBudget;
+
+    @Autowired
+    public SagaStepExecutor(SagaProperties sagaProperties, SagaFanOutLimiter fanOutLimiter,
+                            ObjectProvider<SagaStepListener> listeners) {
+        this.fanOutLimiter = fanOutLimiter;
+        this.listeners = listeners.orderedStream().toList();
+        this.minStepBudget = sagaProperties.getDeadlines().getMinStepBudget();
+    }
+
+    /**
+     * Executes a step call.
+     *
+     * @param ctx the saga context of the running execution
+     * @param stepId the step identifier
+     * @param item the step input, used to derive the idempotency key
+     * @param call supplies the downstream call
+     * @return a Mono with the result of the call
+     */
+    public <T> Mono<T> execute(SagaContext ctx, String stepId, Object item, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+                    long startedAt = System.nanoTime();
+                    listeners.forEach(listener -> listener.onStepStarted(ctx, stepId));
+                    return fanOutLimiter.limit(ctx, stepId, () -> withinDeadline(ctx, stepId, attempt(ctx, stepId, call)))
+                            .doOnSuccess(result -> listeners.forEach(listener ->
+                                    listener.onStepSucceeded(ctx, stepId, result, System.nanoTime() - startedAt)))
+                            .doOnError(error -> listeners.forEach(listener ->
+                                    listener.onStepFailed(ctx, stepId, error, System.nanoTime() - startedAt)));
+                })
+                .contextWrite(IdempotencyKey.of(SagaIdempotencyKeys.keyFor(ctx, stepId, item)));
+    }
+
+    private static <T> Mono<T> attempt(SagaContext ctx, String stepId, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> SagaCancellation.isCancelled(ctx)
+                ? Mono.error(new SagaCancelledException("Saga cancelled by its caller before step " + stepId))
+                : call.get());
+    }
+
+    private <T> Mono<T> withinDeadline(SagaContext ctx, String stepId, Mono<T> attempt) {
+        if (!(ctx.variables().get(CTX_DEADLINE) instanceof Deadline deadline)) {
+            return attempt;
+        }
+        return Mono.defer(() -> {
+            if (!deadline.covers(minStepBudget)) {
+                return Mono.error(deadline.exceeded("step " + stepId));
+            }
+            return attempt
+                    .timeout(deadline.remaining(), Mono.error(() -> deadline.exceeded("step " + stepId)))
+                    .contextWrite(deadline.asContext());
+        });
+    }
+}
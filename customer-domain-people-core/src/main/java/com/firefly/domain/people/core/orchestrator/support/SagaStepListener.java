@@ -0,0 +1,21 @@
+package com.firefly.domain.people.core.orchestrator.support;
+
+import com.firefly.transactionalengine.core.SagaContext;
+
+/**
+ * Callback notified of the step calls run through {@link SagaStepExecutor}.
+ *
+ * Implementations are Spring beans and are invoked on the thread completing the call, so they
+ * must be cheap and must not block.
+ */
+public interface SagaStepListener {
+
+    default void onStepStarted(SagaContext ctx, String stepId) {
+    }
+
+    default void onStepSucceeded(SagaContext ctx, String stepId, Object result, long durationNanos) {
+    }
+
+    default void onStepFailed(SagaContext ctx, String stepId, Throwable error, long durationNanos) {
+    }
+}
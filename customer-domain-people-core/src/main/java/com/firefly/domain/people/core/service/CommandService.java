@@ -1,7 +1,9 @@
 package com.firefly.domain.people.core.service;
 
 import com.firefly.domain.people.interfaces.dto.commands.*;
+import com.firefly.domain.people.interfaces.dto.query.CustomerRegistrationResult;
 import com.firefly.transactionalengine.core.SagaResult;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -13,11 +15,33 @@ public interface CommandService {
     /**
      * Registers a new customer using the provided registration command.
      * This operation is orchestrated as a saga to ensure data consistency across multiple steps.
+     * A tax id already known to the local tax-id index is rejected before the saga starts.
      *
      * @param command the registration command containing all customer information
-     * @return a Mono containing the saga execution result
+     * @return a Mono containing the saga execution result, or a DuplicateTaxIdException
      */
     Mono<SagaResult> register(RegisterCustomerCommand command);
+
+    /**
+     * Accepts a customer registration for background processing and returns immediately.
+     * The registration saga runs later from a bounded internal queue; its progress can be
+     * polled through {@link QueryService#getRegistrationStatus(String)}.
+     *
+     * @param command the registration command containing all customer information
+     * @return a Mono containing the saga id, or a RegistrationQueueFullException if the queue is full
+     */
+    Mono<String> registerAsync(RegisterCustomerCommand command);
+
+    /**
+     * Registers a stream of customers, running at most a configured number of registration
+     * sagas at the same time. Records are pulled from the source only as saga slots free up,
+     * so the whole batch is never held in memory. A record failing bean validation gets a failed
+     * result without starting a saga.
+     *
+     * @param commands the registration commands, in submission order
+     * @return a Flux emitting one result per record as soon as its saga finishes
+     */
+    Flux<CustomerRegistrationResult> registerBulk(Flux<RegisterCustomerCommand> commands);
     
     /**
      * Updates the name of an existing customer.
@@ -1,6 +1,7 @@
 package com.firefly.domain.people.core.service;
 
 import com.firefly.domain.people.interfaces.dto.query.PersonView;
+import com.firefly.domain.people.interfaces.dto.query.RegistrationStatusView;
 import reactor.core.publisher.Mono;
 
 /**
@@ -15,4 +16,12 @@ public interface QueryService {
      * @return a Mono containing the PersonView if found, empty otherwise
      */
     Mono<PersonView> getCustomerById(Long customerId);
+
+    /**
+     * Retrieves the progress of an asynchronous registration.
+     *
+     * @param sagaId the saga id returned when the registration was accepted
+     * @return a Mono containing the RegistrationStatusView if known, empty otherwise
+     */
+    Mono<RegistrationStatusView> getRegistrationStatus(String sagaId);
 }
\ No newline at end of file
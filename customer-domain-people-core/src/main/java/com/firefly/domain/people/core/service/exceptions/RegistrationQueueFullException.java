@@ -0,0 +1,7 @@
+package com.firefly.domain.people.core.service.exceptions;
+
+public class RegistrationQueueFullException extends RuntimeException {
+    public RegistrationQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.firefly.domain.people.core.service.exceptions;
+
+public class SagaCancelledException extends RuntimeException {
+    public SagaCancelledException(String message) {
+        super(message);
+    }
+}
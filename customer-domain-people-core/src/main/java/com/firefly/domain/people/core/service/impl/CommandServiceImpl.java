@@ -1,27 +1,55 @@
 package com.firefly.domain.people.core.service.impl;
 
+import com.firefly.domain.people.core.integration.client.Deadline;
 import com.firefly.domain.people.core.orchestrator.address.AddAddressOrchestrator;
 import com.firefly.domain.people.core.orchestrator.address.RemoveAddressOrchestrator;
 import com.firefly.domain.people.core.orchestrator.address.UpdateAddressOrchestrator;
 import com.firefly.domain.people.core.orchestrator.channel.SetPreferredChannelOrchestrator;
+import com.firefly.domain.people.core.orchestrator.customer.CustomerSagaContext;
 import com.firefly.domain.people.core.orchestrator.customer.RegisterCustomerOrchestrator;
+import com.firefly.domain.people.core.orchestrator.customer.RegisterCustomerPlan;
 import com.firefly.domain.people.core.orchestrator.customer.UpdateNameOrchestrator;
 import com.firefly.domain.people.core.orchestrator.email.AddEmailOrchestrator;
 import com.firefly.domain.people.core.orchestrator.email.RemoveEmailOrchestrator;
+import com.firefly.domain.people.core.orchestrator.journal.SagaJournal;
 import com.firefly.domain.people.core.orchestrator.phone.AddPhoneOrchestrator;
 import com.firefly.domain.people.core.orchestrator.phone.RemovePhoneOrchestrator;
+import com.firefly.domain.people.core.orchestrator.properties.SagaProperties;
+import com.firefly.domain.people.core.orchestrator.support.SagaCancellation;
+import com.firefly.domain.people.core.orchestrator.support.SagaIdempotencyKeys;
+import com.firefly.domain.people.core.orchestrator.support.SagaMetrics;
 import com.firefly.domain.people.core.orchestrator.status.UpdateStatusOrchestrator;
 import com.firefly.domain.people.core.service.CommandService;
+import com.firefly.domain.people.core.service.exceptions.RegistrationQueueFullException;
+import com.firefly.domain.people.core.service.index.TaxIdIndex;
+import com.firefly.domain.people.core.service.registration.RegistrationTracker;
+import com.firefly.domain.people.core.utils.BoundedWorkQueue;
 import com.firefly.domain.people.interfaces.dto.commands.*;
+import com.firefly.domain.people.interfaces.dto.query.CustomerRegistrationResult;
+import com.firefly.transactionalengine.core.SagaContext;
 import com.firefly.transactionalengine.core.SagaResult;
-import com.firefly.transactionalengine.engine.ExpandEach;
 import com.firefly.transactionalengine.engine.SagaEngine;
 import com.firefly.transactionalengine.engine.StepInputs;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static com.firefly.domain.people.core.orchestrator.GlobalConstants.CTX_DEADLINE;
+import static com.firefly.domain.people.core.orchestrator.customer.RegisterCustomerConstants.SAGA_REGISTER_CUSTOMER_NAME;
+import static com.firefly.domain.people.core.orchestrator.customer.RegisterCustomerConstants.STEP_REGISTER_PARTY;
+import static com.firefly.domain.people.core.orchestrator.status.StatusConstants.SAGA_UPDATE_STATUS_NAME;
 
 /**
  * Implementation of PersonCommandService that orchestrates customer registration
@@ -34,33 +62,170 @@ import java.time.LocalDateTime;
 public class CommandServiceImpl implements CommandService {
 
     private final SagaEngine engine;
+    private final SagaProperties sagaProperties;
+    private final TaxIdIndex taxIdIndex;
+    private final RegistrationTracker registrationTracker;
+    private final SagaJournal journal;
+    private final SagaMetrics sagaMetrics;
+    private final SagaCancellation sagaCancellation;
+    private final Validator validator;
+    private final BoundedWorkQueue<QueuedRegistration> registrationQueue;
+    private final Duration minStepBudget;
 
     @Autowired
-    public CommandServiceImpl(SagaEngine engine) {
+    public CommandServiceImpl(SagaEngine engine, SagaProperties sagaProperties, TaxIdIndex taxIdIndex,
+                              RegistrationTracker registrationTracker, SagaJournal journal,
+                              SagaMetrics sagaMetrics, SagaCancellation sagaCancellation, Validator validator) {
         this.engine = engine;
+        this.sagaProperties = sagaProperties;
+        this.taxIdIndex = taxIdIndex;
+        this.registrationTracker = registrationTracker;
+        this.journal = journal;
+        this.sagaMetrics = sagaMetrics;
+        this.sagaCancellation = sagaCancellation;
+        this.validator = validator;
+        this.minStepBudget = sagaProperties.getDeadlines().getMinStepBudget();
+
+        SagaProperties.Async async = sagaProperties.getRegisterCustomer().getAsync();
+        this.registrationQueue = new BoundedWorkQueue<>(async.getQueueCapacity(), async.getConcurrency(),
+                this::runQueuedRegistration);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        registrationQueue.shutdown();
     }
 
     @Override
     public Mono<SagaResult> register(RegisterCustomerCommand command) {
+        CustomerSagaContext ctx = new CustomerSagaContext();
+        return sagaCancellation.detach(ctx, register(command, ctx));
+    }
 
-        StepInputs inputs = StepInputs.builder()
-                .forStep(RegisterCustomerOrchestrator::registerParty, command.party())
-                .forStep(RegisterCustomerOrchestrator::registerNaturalPerson, command.naturalPerson())
-                .forStep(RegisterCustomerOrchestrator::registerLegalPerson, command.legalPerson())
-                .forStep(RegisterCustomerOrchestrator::registerStatusEntry, ExpandEach.of(command.statusHistory()))
-                .forStep(RegisterCustomerOrchestrator::registerPep, command.pep())
-                .forStep(RegisterCustomerOrchestrator::registerIdentityDocument, ExpandEach.of(command.identityDocuments()))
-                .forStep(RegisterCustomerOrchestrator::registerAddress, ExpandEach.of(command.addresses()))
-                .forStep(RegisterCustomerOrchestrator::registerEmail, ExpandEach.of(command.emails()))
-                .forStep(RegisterCustomerOrchestrator::registerPhone, ExpandEach.of(command.phones()))
-                .forStep(RegisterCustomerOrchestrator::registerEconomicActivityLink, ExpandEach.of(command.economicActivities()))
-                .forStep(RegisterCustomerOrchestrator::registerConsent, ExpandEach.of(command.consents()))
-                .forStep(RegisterCustomerOrchestrator::registerPartyProvider, ExpandEach.of(command.providers()))
-                .forStep(RegisterCustomerOrchestrator::registerPartyRelationship, ExpandEach.of(command.relationships()))
-                .forStep(RegisterCustomerOrchestrator::registerPartyGroupMembership, ExpandEach.of(command.groupMemberships()))
+    @Override
+    public Mono<String> registerAsync(RegisterCustomerCommand command) {
+        return Mono.fromCallable(() -> {
+            String sagaId = UUID.randomUUID().toString();
+            registrationTracker.queued(sagaId);
+            if (!registrationQueue.offer(new QueuedRegistration(sagaId, command))) {
+                registrationTracker.discard(sagaId);
+                throw new RegistrationQueueFullException("Registration queue is full, retry later");
+            }
+            return sagaId;
+        });
+    }
+
+    private Mono<SagaResult> runQueuedRegistration(QueuedRegistration queued) {
+        registrationTracker.running(queued.sagaId());
+        return register(queued.command(), new CustomerSagaContext(queued.sagaId()))
+                .doOnNext(result -> {
+                    if (result.isSuccess()) {
+                        registrationTracker.completed(queued.sagaId(),
+                                result.resultOf(STEP_REGISTER_PARTY, Long.class).orElse(null));
+                    } else {
+                        registrationTracker.failed(queued.sagaId(),
+                                result.error().map(Throwable::getMessage).orElse("Registration saga failed"));
+                    }
+                })
+                .doOnError(ex -> registrationTracker.failed(queued.sagaId(), ex.getMessage()));
+    }
+
+    /**
+     * Builds and runs a registration saga on subscription, so that a command the plan cannot be
+     * built from fails this registration alone.
+     */
+    private Mono<SagaResult> register(RegisterCustomerCommand command, CustomerSagaContext ctx) {
+        return Mono.defer(() -> {
+            RegisterCustomerPlan plan = RegisterCustomerPlan.of(command);
+            plan.attachTo(ctx);
+            StepInputs inputs = plan.inputs(command);
+
+            SagaIdempotencyKeys.indexItems(ctx,
+                    command.statusHistory(),
+                    command.identityDocuments(),
+                    command.addresses(),
+                    command.emails(),
+                    command.phones(),
+                    command.economicActivities(),
+                    command.consents(),
+                    command.providers(),
+                    command.relationships(),
+                    command.groupMemberships());
+
+            String taxId = taxIdOf(command);
+            // the reservation is released by whatever ends the saga except a success, cancellation included
+            return taxIdIndex.reserve(taxId)
+                    .then(Mono.defer(() -> admit(RegisterCustomerOrchestrator.class, ctx, () ->
+                            journal.track(ctx, SAGA_REGISTER_CUSTOMER_NAME, null,
+                                    run(RegisterCustomerOrchestrator.class, inputs, ctx)))
+                            .doOnNext(result -> {
+                                if (result.isSuccess()) {
+                                    taxIdIndex.confirm(taxId, result.resultOf(STEP_REGISTER_PARTY, Long.class).orElse(null));
+                                } else {
+                                    taxIdIndex.release(taxId);
+                                }
+                            })
+                            .doOnError(ex -> taxIdIndex.release(taxId))
+                            .doOnCancel(() -> taxIdIndex.release(taxId))));
+        });
+    }
+
+    private record QueuedRegistration(String sagaId, RegisterCustomerCommand command) {
+    }
+
+    private static String taxIdOf(RegisterCustomerCommand command) {
+        if (command.naturalPerson() != null && command.naturalPerson().taxIdNumber() != null) {
+            return command.naturalPerson().taxIdNumber();
+        }
+        return command.legalPerson() != null ? command.legalPerson().taxIdNumber() : null;
+    }
+
+    @Override
+    public Flux<CustomerRegistrationResult> registerBulk(Flux<RegisterCustomerCommand> commands) {
+        return commands
+                .index()
+                .flatMap(indexed -> {
+                            Set<ConstraintViolation<RegisterCustomerCommand>> violations = validator.validate(indexed.getT2());
+                            if (!violations.isEmpty()) {
+                                // rejected before any downstream write, as the single registration endpoint does
+                                return Mono.just(invalidRegistration(indexed.getT1(), violations));
+                            }
+                            return register(indexed.getT2())
+                                    .map(result -> toRegistrationResult(indexed.getT1(), result))
+                                    .onErrorResume(ex -> Mono.just(failedRegistration(indexed.getT1(), ex)));
+                        },
+                        sagaProperties.getRegisterCustomer().getBulkConcurrency());
+    }
+
+    private static CustomerRegistrationResult invalidRegistration(Long index,
+                                                                  Set<ConstraintViolation<RegisterCustomerCommand>> violations) {
+        return CustomerRegistrationResult.builder()
+                .index(index)
+                .success(false)
+                .error(violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")))
                 .build();
+    }
+
+    private CustomerRegistrationResult toRegistrationResult(Long index, SagaResult result) {
+        if (!result.isSuccess()) {
+            return failedRegistration(index, result.error().orElse(null));
+        }
+        return CustomerRegistrationResult.builder()
+                .index(index)
+                .partyId(result.resultOf(STEP_REGISTER_PARTY, Long.class).orElse(null))
+                .success(true)
+                .build();
+    }
 
-        return engine.execute(RegisterCustomerOrchestrator.class, inputs);
+    private CustomerRegistrationResult failedRegistration(Long index, Throwable error) {
+        return CustomerRegistrationResult.builder()
+                .index(index)
+                .success(false)
+                .error(error == null ? "Registration saga failed" : error.getMessage())
+                .build();
     }
 
     @Override
@@ -71,7 +236,7 @@ public class CommandServiceImpl implements CommandService {
                 .forStep(UpdateNameOrchestrator::updateName, new UpdateNameCommand(partyId, newName))
                 .build();
 
-        return engine.execute(UpdateNameOrchestrator.class, inputs);
+        return execute(UpdateNameOrchestrator.class, inputs);
 
     }
 
@@ -82,7 +247,7 @@ public class CommandServiceImpl implements CommandService {
                 .forStep(AddAddressOrchestrator::registerAddress, addressCommand.withPartyId(partyId))
                 .build();
 
-        return engine.execute(AddAddressOrchestrator.class, inputs);
+        return execute(AddAddressOrchestrator.class, inputs);
     }
 
     @Override
@@ -91,7 +256,7 @@ public class CommandServiceImpl implements CommandService {
                 .forStep(UpdateAddressOrchestrator::updateAddress, addressData.withAddressId(addressId).withPartyId(partyId))
                 .build();
 
-        return engine.execute(UpdateAddressOrchestrator.class, inputs)
+        return execute(UpdateAddressOrchestrator.class, inputs)
                 .then();
     }
 
@@ -101,7 +266,7 @@ public class CommandServiceImpl implements CommandService {
                 .forStep(RemoveAddressOrchestrator::removeAddress, new RemoveAddressCommand(partyId, addressId))
                 .build();
 
-        return engine.execute(RemoveAddressOrchestrator.class, inputs);
+        return execute(RemoveAddressOrchestrator.class, inputs);
     }
 
     // Email operations
@@ -111,7 +276,7 @@ public class CommandServiceImpl implements CommandService {
                 .forStep(AddEmailOrchestrator::registerEmail, emailCommand.withPartyId(partyId))
                 .build();
 
-        return engine.execute(AddEmailOrchestrator.class, inputs);
+        return execute(AddEmailOrchestrator.class, inputs);
     }
 
     @Override
@@ -120,7 +285,7 @@ public class CommandServiceImpl implements CommandService {
                 .forStep(RemoveEmailOrchestrator::removeEmail, new RemoveEmailCommand(partyId, emailId))
                 .build();
 
-        return engine.execute(RemoveEmailOrchestrator.class, inputs);
+        return execute(RemoveEmailOrchestrator.class, inputs);
     }
 
     // Phone operations
@@ -130,7 +295,7 @@ public class CommandServiceImpl implements CommandService {
                 .forStep(AddPhoneOrchestrator::registerPhone, phoneCommand.withPartyId(partyId))
                 .build();
 
-        return engine.execute(AddPhoneOrchestrator.class, inputs);
+        return execute(AddPhoneOrchestrator.class, inputs);
     }
 
     @Override
@@ -139,7 +304,7 @@ public class CommandServiceImpl implements CommandService {
                 .forStep(RemovePhoneOrchestrator::removePhone, new RemovePhoneCommand(partyId, phoneId))
                 .build();
 
-        return engine.execute(RemovePhoneOrchestrator.class, inputs);
+        return execute(RemovePhoneOrchestrator.class, inputs);
     }
 
     // Preferred channel operations
@@ -149,7 +314,7 @@ public class CommandServiceImpl implements CommandService {
                 .forStep(SetPreferredChannelOrchestrator::updateChannel, channelData.withPartyId(partyId))
                 .build();
 
-        return engine.execute(SetPreferredChannelOrchestrator.class, inputs)
+        return execute(SetPreferredChannelOrchestrator.class, inputs)
                 .then();
     }
 
@@ -169,72 +334,87 @@ public class CommandServiceImpl implements CommandService {
     // Status operations
     @Override
     public Mono<SagaResult> markDormant(Long partyId) {
-        StepInputs inputs = StepInputs.builder()
-                .forStep(UpdateStatusOrchestrator::updateStatus,
-                        new RegisterPartyStatusEntryCommand(partyId,
-                                "INACTIVE",
-                                "User has been marked as dormant due to inactivity",
-                                LocalDateTime.now(),
-                                null))
-                .build();
-
-        return engine.execute(UpdateStatusOrchestrator.class, inputs);
+        return updateStatus(new RegisterPartyStatusEntryCommand(partyId,
+                "INACTIVE",
+                "User has been marked as dormant due to inactivity",
+                LocalDateTime.now(),
+                null));
     }
 
     @Override
     public Mono<SagaResult> reactivate(Long partyId) {
-        StepInputs inputs = StepInputs.builder()
-                .forStep(UpdateStatusOrchestrator::updateStatus,
-                        new RegisterPartyStatusEntryCommand(partyId,
-                                "ACTIVE",
-                                "User account has been reactivated and is now fully usable.",
-                                LocalDateTime.now(),
-                                null))
-                .build();
-
-        return engine.execute(UpdateStatusOrchestrator.class, inputs);
+        return updateStatus(new RegisterPartyStatusEntryCommand(partyId,
+                "ACTIVE",
+                "User account has been reactivated and is now fully usable.",
+                LocalDateTime.now(),
+                null));
     }
 
     @Override
     public Mono<SagaResult> markDeceased(Long partyId) {
-        StepInputs inputs = StepInputs.builder()
-                .forStep(UpdateStatusOrchestrator::updateStatus,
-                        new RegisterPartyStatusEntryCommand(partyId,
-                                "CLOSED",
-                                "User account is permanently closed because the user is deceased.",
-                                LocalDateTime.now(),
-                                null))
-                .build();
-
-        return engine.execute(UpdateStatusOrchestrator.class, inputs);
+        return updateStatus(new RegisterPartyStatusEntryCommand(partyId,
+                "CLOSED",
+                "User account is permanently closed because the user is deceased.",
+                LocalDateTime.now(),
+                null));
     }
 
     @Override
     public Mono<SagaResult> requestClosure(Long partyId) {
-        StepInputs inputs = StepInputs.builder()
-                .forStep(UpdateStatusOrchestrator::updateStatus,
-                        new RegisterPartyStatusEntryCommand(partyId,
-                                "PENDING",
-                                "A closure request has been submitted but is not yet confirmed.",
-                                LocalDateTime.now(),
-                                null))
-                .build();
-
-        return engine.execute(UpdateStatusOrchestrator.class, inputs);
+        return updateStatus(new RegisterPartyStatusEntryCommand(partyId,
+                "PENDING",
+                "A closure request has been submitted but is not yet confirmed.",
+                LocalDateTime.now(),
+                null));
     }
 
     @Override
     public Mono<SagaResult> confirmClosure(Long partyId) {
+        return updateStatus(new RegisterPartyStatusEntryCommand(partyId,
+                "CLOSED",
+                "Closure has been confirmed and the account is permanently closed.",
+                LocalDateTime.now(),
+                null));
+    }
+
+    private Mono<SagaResult> execute(Class<?> orchestrator, StepInputs inputs) {
+        SagaContext ctx = new CustomerSagaContext();
+        return sagaCancellation.detach(ctx, admit(orchestrator, ctx, () -> run(orchestrator, inputs, ctx)));
+    }
+
+    /**
+     * Admits a saga against the deadline of the calling request, if any, before anything of it
+     * is journaled or run: a saga that could not complete a step in time fails without a trace.
+     * An admitted saga gets the deadline moved from the Reactor context into the saga context:
+     * the steps apply it to their own calls, while compensations, run by the engine outside of
+     * the steps, are never cut short by it.
+     */
+    private Mono<SagaResult> admit(Class<?> orchestrator, SagaContext ctx, Supplier<Mono<SagaResult>> saga) {
+        return Mono.deferContextual(reactorCtx -> {
+            Optional<Deadline> deadline = Deadline.from(reactorCtx);
+            if (deadline.isPresent()) {
+                if (!deadline.get().covers(minStepBudget)) {
+                    return Mono.error(deadline.get().exceeded(orchestrator.getSimpleName()));
+                }
+                ctx.variables().put(CTX_DEADLINE, deadline.get());
+            }
+            return saga.get().contextWrite(Deadline.unbind());
+        });
+    }
+
+    private Mono<SagaResult> run(Class<?> orchestrator, StepInputs inputs, SagaContext ctx) {
+        return sagaMetrics.record(orchestrator, ctx, engine.execute(orchestrator, inputs, ctx));
+    }
+
+    private Mono<SagaResult> updateStatus(RegisterPartyStatusEntryCommand command) {
         StepInputs inputs = StepInputs.builder()
-                .forStep(UpdateStatusOrchestrator::updateStatus,
-                        new RegisterPartyStatusEntryCommand(partyId,
-                                "CLOSED",
-                                "Closure has been confirmed and the account is permanently closed.",
-                                LocalDateTime.now(),
-                                null))
+                .forStep(UpdateStatusOrchestrator::updateStatus, command)
                 .build();
 
-        return engine.execute(UpdateStatusOrchestrator.class, inputs);
+        SagaContext ctx = new CustomerSagaContext();
+        return sagaCancellation.detach(ctx, admit(UpdateStatusOrchestrator.class, ctx, () ->
+                journal.track(ctx, SAGA_UPDATE_STATUS_NAME, command,
+                        run(UpdateStatusOrchestrator.class, inputs, ctx))));
     }
 
     @Override
@@ -251,29 +431,19 @@ public class CommandServiceImpl implements CommandService {
 
     @Override
     public Mono<SagaResult> lockProfile(Long partyId) {
-        StepInputs inputs = StepInputs.builder()
-                .forStep(UpdateStatusOrchestrator::updateStatus,
-                        new RegisterPartyStatusEntryCommand(partyId,
-                                "SUSPENDED",
-                                "Profile is temporarily locked, restricting access and activity.",
-                                LocalDateTime.now(),
-                                null))
-                .build();
-
-        return engine.execute(UpdateStatusOrchestrator.class, inputs);
+        return updateStatus(new RegisterPartyStatusEntryCommand(partyId,
+                "SUSPENDED",
+                "Profile is temporarily locked, restricting access and activity.",
+                LocalDateTime.now(),
+                null));
     }
 
     @Override
     public Mono<SagaResult> unlockProfile(Long partyId) {
-        StepInputs inputs = StepInputs.builder()
-                .forStep(UpdateStatusOrchestrator::updateStatus,
-                        new RegisterPartyStatusEntryCommand(partyId,
-                                "ACTIVE",
-                                "Lock has been removed; user profile is restored to active status.",
-                                LocalDateTime.now(),
-                                null))
-                .build();
-
-        return engine.execute(UpdateStatusOrchestrator.class, inputs);
+        return updateStatus(new RegisterPartyStatusEntryCommand(partyId,
+                "ACTIVE",
+                "Lock has been removed; user profile is restored to active status.",
+                LocalDateTime.now(),
+                null));
     }
 }
\ No newline at end of file
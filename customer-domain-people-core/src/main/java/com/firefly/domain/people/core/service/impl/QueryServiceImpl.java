@@ -1,20 +1,174 @@
 package com.firefly.domain.people.core.service.impl;
 
+import com.firefly.core.customer.sdk.model.EmailContactDTO;
+import com.firefly.core.customer.sdk.model.LegalEntityDTO;
+import com.firefly.core.customer.sdk.model.NaturalPersonDTO;
+import com.firefly.domain.people.core.integration.client.CustomersClient;
+import com.firefly.domain.people.core.integration.mapper.CustomersMapper;
+import com.firefly.domain.people.core.integration.properties.CustomerMgmtProperties;
+import com.firefly.domain.people.core.orchestrator.customer.PartyKind;
 import com.firefly.domain.people.core.service.QueryService;
+import com.firefly.domain.people.core.service.registration.RegistrationTracker;
 import com.firefly.domain.people.interfaces.dto.query.PersonView;
-import lombok.RequiredArgsConstructor;
+import com.firefly.domain.people.interfaces.dto.query.RegistrationStatusView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+/**
+ * Query service backed by customer-mgmt.
+ *
+ * A customer profile is assembled from concurrent reads: the party and the emails of the party
+ * are read at once, and the natural person or legal entity as soon as the party tells which one
+ * the customer is. Every read has its own timeout (see {@link CustomerMgmtProperties.Profile}).
+ * The profile is empty when the party does not exist and fails when the party cannot be read; a
+ * failed or late details or email read only leaves its section empty, and the profile is then
+ * flagged as incomplete with the sections missing.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class QueryServiceImpl implements QueryService {
 
+    static final String SECTION_DETAILS = "DETAILS";
+    static final String SECTION_EMAIL = "EMAIL";
+
+    private final RegistrationTracker registrationTracker;
+    private final CustomersClient customersClient;
+    private final CustomersMapper customersMapper;
+    private final CustomerMgmtProperties.Profile profile;
+
+    @Autowired
+    public QueryServiceImpl(RegistrationTracker registrationTracker, CustomersClient customersClient,
+                            CustomersMapper customersMapper, CustomerMgmtProperties customerMgmtProperties) {
+        this.registrationTracker = registrationTracker;
+        this.customersClient = customersClient;
+        this.customersMapper = customersMapper;
+        this.profile = customerMgmtProperties.getProfile();
+    }
+
     @Override
     public Mono<PersonView> getCustomerById(Long customerId) {
-        // TODO: Implement mark deceased logic
-        return Mono.empty();
+        Mono<Section<Details>> details = customersClient.getParty(customerId)
+                .timeout(profile.getPartyTimeout())
+                .mapNotNull(ResponseEntity::getBody)
+                .map(customersMapper::toPartyView)
+                .onErrorResume(WebClientResponseException.NotFound.class, error -> Mono.empty())
+                .flatMap(party -> details(customerId, PartyKind.of(party.getPartyKind())));
+        Mono<Section<String>> email = section(SECTION_EMAIL, customerId, customersClient.getEmails(customerId)
+                .mapNotNull(ResponseEntity::getBody)
+                .mapNotNull(QueryServiceImpl::primaryEmail), profile.getEmailTimeout());
+
+        // an unknown party completes the zip empty and cancels the email read
+        return Mono.zip(details, email)
+                .map(sections -> assemble(customerId, sections.getT1(), sections.getT2()));
+    }
+
+    @Override
+    public Mono<RegistrationStatusView> getRegistrationStatus(String sagaId) {
+        return Mono.justOrEmpty(registrationTracker.find(sagaId));
+    }
+
+    private Mono<Section<Details>> details(Long partyId, PartyKind partyKind) {
+        if (partyKind == null) {
+            return Mono.just(Section.unread(SECTION_DETAILS));
+        }
+        Mono<Details> read = switch (partyKind) {
+            case INDIVIDUAL -> customersClient.getNaturalPerson(partyId)
+                    .mapNotNull(ResponseEntity::getBody)
+                    .map(QueryServiceImpl::naturalPersonDetails);
+            case ORGANIZATION -> customersClient.getLegalEntity(partyId)
+                    .mapNotNull(ResponseEntity::getBody)
+                    .map(QueryServiceImpl::legalEntityDetails);
+        };
+        return section(SECTION_DETAILS, partyId, read, profile.getDetailsTimeout());
+    }
+
+    /**
+     * Reads a section that the profile can do without: a read that fails or exceeds its timeout
+     * yields a missing section instead of an error.
+     */
+    private static <T> Mono<Section<T>> section(String name, Long partyId, Mono<T> read, Duration timeout) {
+        return read
+                .timeout(timeout)
+                .map(Section::of)
+                .defaultIfEmpty(Section.of(null))
+                .onErrorResume(error -> {
+                    log.warn("Customer profile {} returned without {}: {}", partyId, name, error.toString());
+                    return Mono.just(Section.unread(name));
+                });
+    }
+
+    private static PersonView assemble(Long partyId, Section<Details> details, Section<String> email) {
+        List<String> missing = Stream.of(details, email)
+                .filter(Section::isMissing)
+                .map(Section::missing)
+                .toList();
+        Details read = details.value();
+        return PersonView.builder()
+                .id(partyId)
+                .taxId(read != null ? read.taxId() : null)
+                .name(read != null ? read.name() : null)
+                .birthDate(read != null ? read.birthDate() : null)
+                .email(email.value())
+                .incomplete(!missing.isEmpty())
+                .missingSections(missing)
+                .build();
+    }
+
+    private static Details naturalPersonDetails(NaturalPersonDTO naturalPerson) {
+        String name = Stream.of(naturalPerson.getGivenName(), naturalPerson.getMiddleName(),
+                        naturalPerson.getFamilyName1(), naturalPerson.getFamilyName2())
+                .filter(Objects::nonNull)
+                .filter(part -> !part.isBlank())
+                .collect(Collectors.joining(" "));
+        return new Details(naturalPerson.getTaxIdNumber(), name.isEmpty() ? null : name, naturalPerson.getDateOfBirth());
+    }
+
+    private static Details legalEntityDetails(LegalEntityDTO legalEntity) {
+        return new Details(legalEntity.getTaxIdNumber(), legalEntity.getLegalName(), null);
+    }
+
+    /**
+     * @return the address of the primary email, or of the first email when none is primary
+     */
+    private static String primaryEmail(List<EmailContactDTO> emails) {
+        return emails.stream()
+                .filter(email -> Boolean.TRUE.equals(email.getIsPrimary()))
+                .findFirst()
+                .or(() -> emails.stream().findFirst())
+                .map(EmailContactDTO::getEmail)
+                .orElse(null);
+    }
+
+    private record Details(String taxId, String name, LocalDate birthDate) {
+    }
+
+    /**
+     * A section of the profile: its value, possibly null, or the name of the section when it
+     * could not be read.
+     */
+    private record Section<T>(T value, String missing) {
+
+        static <T> Section<T> of(T value) {
+            return new Section<>(value, null);
+        }
+
+        static <T> Section<T> unread(String name) {
+            return new Section<>(null, name);
+        }
+
+        boolean isMissing() {
+            return missing != null;
+        }
     }
-}
\ No newline at end of file
+}
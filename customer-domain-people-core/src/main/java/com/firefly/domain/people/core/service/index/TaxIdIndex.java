@@ -0,0 +1,99 @@
+package com.firefly.domain.people.core.service.index;
+
+import com.firefly.domain.people.core.orchestrator.properties.SagaProperties;
+import com.firefly.domain.people.core.service.exceptions.DuplicateTaxIdException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local uniqueness index of customer tax identifiers.
+ *
+ * A tax id is reserved before its registration saga starts, confirmed with the party id once the
+ * saga succeeds and released if it does not, so concurrent registrations of the same tax id are
+ * rejected before any downstream write. Reservations in flight are held exactly until they are
+ * confirmed or released; confirmed tax ids are only remembered for a bounded time and number,
+ * so that the index does not grow with every registration and a tax id whose party was deleted
+ * is accepted again. The index only knows tax ids recently registered through this instance;
+ * customer-mgmt remains the authoritative source.
+ */
+@Component
+public class TaxIdIndex {
+
+    private static final Long UNKNOWN_PARTY = -1L;
+
+    private final Set<String> reserved = ConcurrentHashMap.newKeySet();
+    private final Cache<String, Long> partyIdsByTaxId;
+
+    @Autowired
+    public TaxIdIndex(SagaProperties sagaProperties) {
+        SagaProperties.TaxIdIndex properties = sagaProperties.getRegisterCustomer().getTaxIdIndex();
+        this.partyIdsByTaxId = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .build();
+    }
+
+    /**
+     * Reserves a tax id for a registration about to start. The reservation is taken on subscription.
+     *
+     * @param taxId the tax id of the customer; tax ids without any letter or digit are not indexed
+     * @return an empty Mono, or a DuplicateTaxIdException if the tax id is registered or being registered
+     */
+    public Mono<Void> reserve(String taxId) {
+        return Mono.defer(() -> {
+            String key = normalize(taxId);
+            if (key != null && (partyIdsByTaxId.getIfPresent(key) != null || !reserved.add(key))) {
+                return Mono.error(new DuplicateTaxIdException("Tax id already registered: " + taxId));
+            }
+            return Mono.empty();
+        });
+    }
+
+    /**
+     * Marks a reserved tax id as registered to the given party.
+     */
+    public void confirm(String taxId, Long partyId) {
+        String key = normalize(taxId);
+        if (key != null) {
+            // remembered before the reservation ends, so that no registration slips in between
+            partyIdsByTaxId.put(key, partyId != null ? partyId : UNKNOWN_PARTY);
+            reserved.remove(key);
+        }
+    }
+
+    /**
+     * Releases the reservation of a registration that did not complete.
+     */
+    public void release(String taxId) {
+        String key = normalize(taxId);
+        if (key != null) {
+            reserved.remove(key);
+        }
+    }
+
+    public boolean contains(String taxId) {
+        String key = normalize(taxId);
+        return key != null && (reserved.contains(key) || partyIdsByTaxId.getIfPresent(key) != null);
+    }
+
+    private static String normalize(String taxId) {
+        if (taxId == null || taxId.isBlank()) {
+            return null;
+        }
+        StringBuilder normalized = new StringBuilder(taxId.length());
+        for (int i = 0; i < taxId.length(); i++) {
+            char c = taxId.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.isEmpty() ? null : normalized.toString().toUpperCase(Locale.ROOT);
+    }
+}
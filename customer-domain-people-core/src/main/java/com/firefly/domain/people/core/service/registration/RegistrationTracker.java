@@ -0,0 +1,170 @@
+package com.firefly.domain.people.core.service.registration;
+
+import com.firefly.domain.people.core.orchestrator.properties.SagaProperties;
+import com.firefly.domain.people.core.orchestrator.support.SagaStepListener;
+import com.firefly.domain.people.interfaces.dto.query.RegistrationStatusView;
+import com.firefly.domain.people.interfaces.dto.query.RegistrationStepView;
+import com.firefly.transactionalengine.core.SagaContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static com.firefly.domain.people.core.orchestrator.GlobalConstants.CTX_PARTY_ID;
+import static com.firefly.domain.people.core.orchestrator.customer.RegisterCustomerConstants.STEP_REGISTER_PARTY;
+
+/**
+ * Keeps the status of asynchronous registrations, keyed by saga id.
+ *
+ * Step progress is collected from the step calls of tracked sagas. Finished registrations are
+ * retained up to a configured number and then evicted oldest first.
+ */
+@Component
+public class RegistrationTracker implements SagaStepListener {
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private final Map<String, TrackedRegistration> registrations = new ConcurrentHashMap<>();
+    private final Queue<String> finished = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger finishedCount = new AtomicInteger();
+    private final int retainedResults;
+
+    @Autowired
+    public RegistrationTracker(SagaProperties sagaProperties) {
+        this.retainedResults = sagaProperties.getRegisterCustomer().getAsync().getRetainedResults();
+    }
+
+    public void queued(String sagaId) {
+        registrations.put(sagaId, new TrackedRegistration(sagaId));
+    }
+
+    public void running(String sagaId) {
+        update(sagaId, registration -> registration.status = Status.RUNNING);
+    }
+
+    public void completed(String sagaId, Long partyId) {
+        finish(sagaId, registration -> {
+            registration.status = Status.COMPLETED;
+            if (partyId != null) {
+                registration.partyId = partyId;
+            }
+        });
+    }
+
+    public void failed(String sagaId, String error) {
+        finish(sagaId, registration -> {
+            registration.status = Status.FAILED;
+            registration.error = error;
+        });
+    }
+
+    public void discard(String sagaId) {
+        registrations.remove(sagaId);
+    }
+
+    public Optional<RegistrationStatusView> find(String sagaId) {
+        return Optional.ofNullable(registrations.get(sagaId)).map(TrackedRegistration::toView);
+    }
+
+    @Override
+    public void onStepStarted(SagaContext ctx, String stepId) {
+        TrackedRegistration registration = registrations.get(ctx.correlationId());
+        if (registration != null) {
+            registration.step(stepId).started.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void onStepSucceeded(SagaContext ctx, String stepId, Object result, long durationNanos) {
+        TrackedRegistration registration = registrations.get(ctx.correlationId());
+        if (registration != null) {
+            registration.step(stepId).completed.incrementAndGet();
+            if (STEP_REGISTER_PARTY.equals(stepId) && ctx.variables().get(CTX_PARTY_ID) instanceof Long partyId) {
+                registration.partyId = partyId;
+            }
+        }
+    }
+
+    @Override
+    public void onStepFailed(SagaContext ctx, String stepId, Throwable error, long durationNanos) {
+        TrackedRegistration registration = registrations.get(ctx.correlationId());
+        if (registration != null) {
+            registration.step(stepId).failed.incrementAndGet();
+        }
+    }
+
+    private void update(String sagaId, Consumer<TrackedRegistration> change) {
+        TrackedRegistration registration = registrations.get(sagaId);
+        if (registration != null) {
+            change.accept(registration);
+        }
+    }
+
+    private void finish(String sagaId, Consumer<TrackedRegistration> change) {
+        TrackedRegistration registration = registrations.get(sagaId);
+        if (registration == null) {
+            return;
+        }
+        change.accept(registration);
+        registration.finishedAt = Instant.now();
+        finished.add(sagaId);
+        while (finishedCount.incrementAndGet() > retainedResults) {
+            String evicted = finished.poll();
+            finishedCount.decrementAndGet();
+            if (evicted == null) {
+                break;
+            }
+            registrations.remove(evicted);
+        }
+    }
+
+    private static final class TrackedRegistration {
+        private final String sagaId;
+        private final Instant submittedAt = Instant.now();
+        private final Map<String, StepProgress> steps = new ConcurrentHashMap<>();
+        private volatile Status status = Status.QUEUED;
+        private volatile Long partyId;
+        private volatile String error;
+        private volatile Instant finishedAt;
+
+        private TrackedRegistration(String sagaId) {
+            this.sagaId = sagaId;
+        }
+
+        private StepProgress step(String stepId) {
+            return steps.computeIfAbsent(stepId, key -> new StepProgress());
+        }
+
+        private RegistrationStatusView toView() {
+            return RegistrationStatusView.builder()
+                    .sagaId(sagaId)
+                    .status(status.name())
+                    .partyId(partyId)
+                    .error(error)
+                    .submittedAt(submittedAt)
+                    .finishedAt(finishedAt)
+                    .steps(steps.entrySet().stream()
+                            .map(entry -> RegistrationStepView.builder()
+                                    .stepId(entry.getKey())
+                                    .started(entry.getValue().started.get())
+                                    .completed(entry.getValue().completed.get())
+                                    .failed(entry.getValue().failed.get())
+                                    .build())
+                            .toList())
+                    .build();
+        }
+    }
+
+    private static final class StepProgress {
+        private final AtomicInteger started = new AtomicInteger();
+        private final AtomicInteger completed = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+    }
+}
@@ -0,0 +1,99 @@
+package com.firefly.domain.people.core.utils;
+
+/**
+ * Concurrency limit adjusted by additive increase and multiplicative decrease (AIMD).
+ *
+ * Every call completing within the latency threshold raises the limit by one while the limit is
+ * actually being used (at least half of it in flight); every call slower than the threshold, or
+ * failing with an overload signal, multiplies the limit by the backoff ratio. Calls beyond the
+ * limit are rejected immediately rather than queued, so a slow downstream sees less traffic
+ * instead of a growing backlog.
+ */
+public final class AimdLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    private double limit;
+    private int inFlight;
+
+    public AimdLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio, long latencyThresholdNanos) {
+        if (minLimit <= 0 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("limits must satisfy 0 < min <= initial <= max: "
+                    + minLimit + ", " + initialLimit + ", " + maxLimit);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoff ratio must be in (0, 1): " + backoffRatio);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Takes a slot if the limit allows it. A taken slot must be given back with
+     * {@link #onSuccess(long)}, {@link #onOverload()} or {@link #onIgnore()}.
+     *
+     * @return true if the call may proceed
+     */
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Takes a slot regardless of the limit, for calls that must never be shed.
+     */
+    public synchronized void acquire() {
+        inFlight++;
+    }
+
+    /**
+     * Releases a slot of a call that completed, adjusting the limit by its latency.
+     *
+     * @param latencyNanos the latency of the call
+     */
+    public synchronized void onSuccess(long latencyNanos) {
+        if (latencyNanos > latencyThresholdNanos) {
+            decrease();
+        } else if (inFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+        inFlight--;
+    }
+
+    /**
+     * Releases a slot of a call that failed because the downstream is overloaded.
+     */
+    public synchronized void onOverload() {
+        decrease();
+        inFlight--;
+    }
+
+    /**
+     * Releases a slot of a call whose outcome says nothing about the downstream load, such as a
+     * cancelled call or a client error.
+     */
+    public synchronized void onIgnore() {
+        inFlight--;
+    }
+
+    public synchronized int limit() {
+        return (int) limit;
+    }
+
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+
+    private void decrease() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+}
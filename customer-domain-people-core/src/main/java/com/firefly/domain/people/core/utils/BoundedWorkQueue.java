@@ -0,0 +1,46 @@
+package com.firefly.domain.people.core.utils;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Function;
+
+/**
+ * Bounded in-memory queue drained by a fixed number of concurrent reactive workers.
+ *
+ * Submissions beyond the capacity are rejected immediately rather than buffered, so a burst is
+ * either smoothed into the steady rate of the workers or pushed back to the caller. A failing
+ * item is dropped without affecting the others.
+ */
+public final class BoundedWorkQueue<T> {
+
+    private final Sinks.Many<T> sink;
+    private final Disposable workers;
+
+    public BoundedWorkQueue(int capacity, int concurrency, Function<T, Mono<?>> worker) {
+        this.sink = Sinks.many().unicast().onBackpressureBuffer(new ArrayBlockingQueue<>(capacity));
+        this.workers = sink.asFlux()
+                // deferred so that a worker throwing instead of failing its Mono cannot stop the queue
+                .flatMap(item -> Mono.defer(() -> worker.apply(item)).onErrorResume(error -> Mono.empty()), concurrency)
+                .subscribe();
+    }
+
+    /**
+     * Enqueues an item.
+     *
+     * @param item the work item
+     * @return false if the queue is full or shut down
+     */
+    public boolean offer(T item) {
+        synchronized (sink) {
+            return sink.tryEmitNext(item).isSuccess();
+        }
+    }
+
+    public void shutdown() {
+        sink.tryEmitComplete();
+        workers.dispose();
+    }
+}
@@ -0,0 +1,147 @@
+package com.firefly.domain.people.core.utils;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker.
+ *
+ * While CLOSED, the outcomes of the last {@code windowSize} calls are kept; once at least
+ * {@code minimumCalls} of them are recorded and the failure rate reaches the threshold, the
+ * breaker OPENs and rejects every call. After the open duration it lets
+ * {@code halfOpenCalls} trial calls through (HALF_OPEN): if they all succeed it closes again,
+ * and the first failure opens it again.
+ */
+public final class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final boolean[] failures;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private int recorded;
+    private int next;
+    private int failed;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openNanos,
+                          int halfOpenCalls) {
+        this(windowSize, minimumCalls, failureRateThreshold, openNanos, halfOpenCalls, System::nanoTime);
+    }
+
+    CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openNanos,
+                   int halfOpenCalls, LongSupplier clock) {
+        if (windowSize <= 0 || minimumCalls <= 0 || minimumCalls > windowSize || halfOpenCalls <= 0) {
+            throw new IllegalArgumentException("window size, minimum calls and half-open calls must be positive"
+                    + " and minimum calls must not exceed the window size");
+        }
+        this.failures = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openNanos;
+        this.halfOpenCalls = halfOpenCalls;
+        this.clock = clock;
+    }
+
+    /**
+     * Tells whether a call may be sent, taking a trial permit when HALF_OPEN.
+     *
+     * @return false if the breaker rejects the call
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenPermits = halfOpenCalls;
+            halfOpenSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                return false;
+            }
+            halfOpenPermits--;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses == halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+    }
+
+    /**
+     * Gives back the permit of a call whose outcome says nothing about the downstream health,
+     * such as a cancelled call.
+     */
+    public synchronized void onIgnore() {
+        if (state == State.HALF_OPEN) {
+            halfOpenPermits++;
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    /**
+     * @return the failure rate over the current window, or 0 before the minimum number of calls
+     */
+    public synchronized double failureRate() {
+        return recorded < minimumCalls ? 0 : (double) failed / recorded;
+    }
+
+    private void record(boolean failure) {
+        if (state != State.CLOSED) {
+            // a late outcome of a call sent before the breaker opened
+            return;
+        }
+        if (recorded == failures.length) {
+            if (failures[next]) {
+                failed--;
+            }
+        } else {
+            recorded++;
+        }
+        failures[next] = failure;
+        if (failure) {
+            failed++;
+        }
+        next = (next + 1) % failures.length;
+        if (recorded >= minimumCalls && (double) failed / recorded >= failureRateThreshold) {
+            open();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.getAsLong();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        recorded = 0;
+        next = 0;
+        failed = 0;
+    }
+}
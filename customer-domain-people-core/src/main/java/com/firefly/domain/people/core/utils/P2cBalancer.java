@@ -0,0 +1,203 @@
+package com.firefly.domain.people.core.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Power-of-two-choices balancer with passive outlier ejection.
+ *
+ * Every pick draws two members at random among those not ejected and takes the cheaper one,
+ * the cost being the moving average of its latency times its outstanding calls plus one. This
+ * steers calls away from slow or busy members without the herding of always picking the best
+ * one. A member is ejected for a while after a number of consecutive failures, or when its
+ * average latency exceeds the latency factor times the fastest member's; every further ejection
+ * lasts one base ejection time longer. At most the configured share of the members is ejected
+ * at the same time; when every member is ejected, all of them are picked from.
+ */
+public final class P2cBalancer<T> {
+
+    private static final double LATENCY_DECAY = 0.1;
+    private static final int MAX_EJECTION_MULTIPLIER = 10;
+    private static final int MIN_LATENCY_SAMPLES = 10;
+
+    private final List<Member<T>> members;
+    private final int consecutiveFailures;
+    private final double latencyFactor;
+    private final long baseEjectionNanos;
+    private final int maxEjected;
+
+    public P2cBalancer(List<T> targets, int consecutiveFailures, double latencyFactor,
+                       long baseEjectionNanos, double maxEjectionRatio) {
+        if (targets.isEmpty()) {
+            throw new IllegalArgumentException("at least one target is required");
+        }
+        if (consecutiveFailures <= 0 || latencyFactor <= 1 || maxEjectionRatio < 0 || maxEjectionRatio > 1) {
+            throw new IllegalArgumentException("invalid ejection settings: " + consecutiveFailures + ", "
+                    + latencyFactor + ", " + maxEjectionRatio);
+        }
+        List<Member<T>> list = new ArrayList<>(targets.size());
+        targets.forEach(target -> list.add(new Member<>(this, target)));
+        this.members = List.copyOf(list);
+        this.consecutiveFailures = consecutiveFailures;
+        this.latencyFactor = latencyFactor;
+        this.baseEjectionNanos = baseEjectionNanos;
+        this.maxEjected = (int) Math.floor(targets.size() * maxEjectionRatio);
+    }
+
+    /**
+     * Picks a member for a call and counts the call as outstanding on it. The call must be
+     * reported with {@link Member#onSuccess(long)}, {@link Member#onFailure()} or
+     * {@link Member#onIgnore()}.
+     *
+     * @return the member to send the call to
+     */
+    public synchronized Member<T> choose() {
+        long now = System.nanoTime();
+        List<Member<T>> available = new ArrayList<>(members.size());
+        for (Member<T> member : members) {
+            if (member.ejectedUntil <= now) {
+                available.add(member);
+            }
+        }
+        if (available.isEmpty()) {
+            available = members;
+        }
+        Member<T> chosen;
+        if (available.size() == 1) {
+            chosen = available.get(0);
+        } else {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(available.size());
+            int second = random.nextInt(available.size() - 1);
+            if (second >= first) {
+                second++;
+            }
+            Member<T> a = available.get(first);
+            Member<T> b = available.get(second);
+            chosen = a.cost() <= b.cost() ? a : b;
+        }
+        chosen.outstanding++;
+        return chosen;
+    }
+
+    /**
+     * @return every member, in the order of the targets
+     */
+    public List<Member<T>> members() {
+        return members;
+    }
+
+    private void succeeded(Member<T> member, long latencyNanos) {
+        member.outstanding--;
+        member.failures = 0;
+        member.latencyNanos = member.latencyNanos == 0
+                ? latencyNanos
+                : member.latencyNanos + LATENCY_DECAY * (latencyNanos - member.latencyNanos);
+        if (++member.samples < MIN_LATENCY_SAMPLES) {
+            return;
+        }
+        long now = System.nanoTime();
+        double fastest = Double.MAX_VALUE;
+        for (Member<T> other : members) {
+            if (other != member && other.latencyNanos > 0 && !other.isEjected(now)) {
+                fastest = Math.min(fastest, other.latencyNanos);
+            }
+        }
+        if (fastest != Double.MAX_VALUE && member.latencyNanos > latencyFactor * fastest) {
+            eject(member, fastest);
+        }
+    }
+
+    private void failed(Member<T> member) {
+        member.outstanding--;
+        if (++member.failures >= consecutiveFailures) {
+            eject(member, member.latencyNanos);
+        }
+    }
+
+    private void eject(Member<T> member, double latencyOnReturn) {
+        long now = System.nanoTime();
+        if (member.isEjected(now)) {
+            return;
+        }
+        int ejected = 0;
+        for (Member<T> other : members) {
+            if (other.isEjected(now)) {
+                ejected++;
+            }
+        }
+        if (ejected >= maxEjected) {
+            return;
+        }
+        member.ejections++;
+        member.ejectedUntil = now + baseEjectionNanos * Math.min(member.ejections, MAX_EJECTION_MULTIPLIER);
+        member.failures = 0;
+        // back from ejection, the member is judged on fresh latencies
+        member.latencyNanos = latencyOnReturn;
+        member.samples = 0;
+    }
+
+    /**
+     * A balanced target and its statistics.
+     */
+    public static final class Member<T> {
+
+        private final P2cBalancer<T> balancer;
+        private final T target;
+
+        private int outstanding;
+        private double latencyNanos;
+        private int samples;
+        private int failures;
+        private int ejections;
+        private long ejectedUntil;
+
+        private Member(P2cBalancer<T> balancer, T target) {
+            this.balancer = balancer;
+            this.target = target;
+        }
+
+        public T target() {
+            return target;
+        }
+
+        public void onSuccess(long latencyNanos) {
+            synchronized (balancer) {
+                balancer.succeeded(this, latencyNanos);
+            }
+        }
+
+        public void onFailure() {
+            synchronized (balancer) {
+                balancer.failed(this);
+            }
+        }
+
+        public void onIgnore() {
+            synchronized (balancer) {
+                outstanding--;
+            }
+        }
+
+        public int outstanding() {
+            synchronized (balancer) {
+                return outstanding;
+            }
+        }
+
+        public boolean ejected() {
+            synchronized (balancer) {
+                return isEjected(System.nanoTime());
+            }
+        }
+
+        private boolean isEjected(long now) {
+            return ejectedUntil > now;
+        }
+
+        private double cost() {
+            return Math.max(latencyNanos, 1) * (outstanding + 1);
+        }
+    }
+}
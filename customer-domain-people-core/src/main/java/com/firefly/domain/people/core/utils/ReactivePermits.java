@@ -0,0 +1,140 @@
+package com.firefly.domain.people.core.utils;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking counting semaphore for reactive pipelines.
+ *
+ * Subscribers that cannot get a permit are queued in FIFO order and resumed when a permit
+ * is released, without parking any thread. Cancelling a queued subscriber gives up its place;
+ * a permit handed to a subscriber cancelled at the same moment is released again.
+ */
+public final class ReactivePermits {
+
+    private static final int WAITING = 0;
+    private static final int GRANTED = 1;
+    private static final int CANCELLED = 2;
+
+    private final int limit;
+    private final Queue<Waiter> waiters = new ArrayDeque<>();
+    private int available;
+
+    public ReactivePermits(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive: " + limit);
+        }
+        this.limit = limit;
+        this.available = limit;
+    }
+
+    /**
+     * Runs the supplied Mono while holding a permit. The permit is released when the Mono
+     * completes, fails or is cancelled.
+     *
+     * @param source supplies the work to run once a permit is granted
+     * @param onGranted invoked with the time in nanoseconds spent waiting for the permit
+     * @return a Mono with the result of the work
+     */
+    public <T> Mono<T> withPermit(Supplier<Mono<T>> source, LongConsumer onGranted) {
+        return Mono.usingWhen(
+                acquire(),
+                waitedNanos -> {
+                    onGranted.accept(waitedNanos);
+                    return Mono.defer(source);
+                },
+                waitedNanos -> release(),
+                (waitedNanos, error) -> release(),
+                waitedNanos -> release());
+    }
+
+    /**
+     * Same as {@link #withPermit(Supplier, LongConsumer)} without reporting the waiting time.
+     */
+    public <T> Mono<T> withPermit(Supplier<Mono<T>> source) {
+        return withPermit(source, waitedNanos -> { });
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public synchronized int inUse() {
+        return limit - available;
+    }
+
+    public synchronized int queued() {
+        return waiters.size();
+    }
+
+    private Mono<Long> acquire() {
+        return Mono.create(sink -> {
+            Waiter waiter = new Waiter(sink, System.nanoTime());
+            // Reactor runs onCancel only when the cancellation wins over success(), so a permit
+            // granted to a waiter cancelled meanwhile never reached usingWhen and is put back here.
+            sink.onCancel(() -> {
+                if (waiter.state.compareAndSet(WAITING, CANCELLED)) {
+                    synchronized (this) {
+                        waiters.remove(waiter);
+                    }
+                } else if (waiter.state.get() == GRANTED) {
+                    releasePermit();
+                }
+            });
+            boolean granted;
+            synchronized (this) {
+                granted = available > 0;
+                if (granted) {
+                    available--;
+                } else {
+                    waiters.add(waiter);
+                }
+            }
+            if (granted && waiter.state.compareAndSet(WAITING, GRANTED)) {
+                sink.success(0L);
+            } else if (granted) {
+                // cancelled before the permit was taken
+                releasePermit();
+            }
+        });
+    }
+
+    private Mono<Void> release() {
+        return Mono.fromRunnable(this::releasePermit);
+    }
+
+    private void releasePermit() {
+        while (true) {
+            Waiter next;
+            synchronized (this) {
+                next = waiters.poll();
+                if (next == null) {
+                    available++;
+                    return;
+                }
+            }
+            // The permit is handed over directly; a waiter cancelled in the meantime is skipped.
+            if (next.state.compareAndSet(WAITING, GRANTED)) {
+                next.sink.success(System.nanoTime() - next.requestedAt);
+                return;
+            }
+        }
+    }
+
+    private static final class Waiter {
+        private final MonoSink<Long> sink;
+        private final long requestedAt;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        private Waiter(MonoSink<Long> sink, long requestedAt) {
+            this.sink = sink;
+            this.requestedAt = requestedAt;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.firefly.domain.people.core.utils;
+
+/**
+ * Token bucket limiting retries, or hedged requests, to a share of the requests.
+ *
+ * Every request adds the deposit ratio to the bucket, up to its capacity, and every retry takes
+ * one whole token. While requests succeed the bucket stays full and a few retries go through at
+ * once; during an outage, when nearly every request would be retried, retries are capped at the
+ * deposit ratio of the traffic instead of multiplying it.
+ */
+public final class RetryBudget {
+
+    private final double depositRatio;
+    private final double capacity;
+
+    private double tokens;
+
+    public RetryBudget(double depositRatio, double capacity) {
+        if (depositRatio < 0 || capacity < 1) {
+            throw new IllegalArgumentException("deposit ratio must be >= 0 and capacity >= 1: "
+                    + depositRatio + ", " + capacity);
+        }
+        this.depositRatio = depositRatio;
+        this.capacity = capacity;
+        this.tokens = capacity;
+    }
+
+    /**
+     * Records a request, earning its share of a retry.
+     */
+    public synchronized void deposit() {
+        tokens = Math.min(capacity, tokens + depositRatio);
+    }
+
+    /**
+     * Takes a token for a retry if one is left.
+     *
+     * @return true if the retry may be sent
+     */
+    public synchronized boolean tryWithdraw() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    /**
+     * @return the tokens currently in the bucket
+     */
+    public synchronized double tokens() {
+        return tokens;
+    }
+}
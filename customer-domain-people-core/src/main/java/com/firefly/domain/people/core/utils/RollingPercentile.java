@@ -0,0 +1,63 @@
+package com.firefly.domain.people.core.utils;
+
+import java.util.Arrays;
+
+/**
+ * Percentile of the most recent samples of a value, such as a latency.
+ *
+ * Keeps the last {@code windowSize} samples in a ring and recomputes the percentile every
+ * {@code refreshEvery} samples, so that reading it is a plain field access.
+ */
+public final class RollingPercentile {
+
+    private final long[] samples;
+    private final double percentile;
+    private final int refreshEvery;
+    private final int minSamples;
+
+    private int count;
+    private int next;
+    private int sinceRefresh;
+    private volatile long value = -1;
+
+    /**
+     * @param windowSize the number of most recent samples considered
+     * @param percentile the percentile, between 0 and 1
+     * @param refreshEvery the number of samples between two recomputations
+     * @param minSamples the number of samples needed before a value is available
+     */
+    public RollingPercentile(int windowSize, double percentile, int refreshEvery, int minSamples) {
+        if (windowSize <= 0 || refreshEvery <= 0 || minSamples <= 0 || minSamples > windowSize) {
+            throw new IllegalArgumentException("window size, refresh interval and minimum samples must be positive"
+                    + " and minimum samples must not exceed the window size");
+        }
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("percentile must be in (0, 1): " + percentile);
+        }
+        this.samples = new long[windowSize];
+        this.percentile = percentile;
+        this.refreshEvery = refreshEvery;
+        this.minSamples = minSamples;
+    }
+
+    public synchronized void record(long sample) {
+        samples[next] = sample;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+        if (++sinceRefresh >= refreshEvery && count >= minSamples) {
+            sinceRefresh = 0;
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            value = sorted[Math.min(count - 1, (int) Math.ceil(percentile * count) - 1)];
+        }
+    }
+
+    /**
+     * @return the percentile as of the last recomputation, or -1 before enough samples were recorded
+     */
+    public long value() {
+        return value;
+    }
+}
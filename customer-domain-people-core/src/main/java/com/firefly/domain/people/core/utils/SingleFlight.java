@@ -0,0 +1,67 @@
+package com.firefly.domain.people.core.utils;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls with the same key into one execution.
+ *
+ * The first subscriber for a key runs the call; subscribers arriving while it is in flight
+ * receive the same result instead of running it again. The call is cancelled only when every
+ * subscriber has cancelled. Once it terminates, the next subscriber runs a new call, so results
+ * are never reused after the fact.
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder executions = new LongAdder();
+
+    /**
+     * Runs the call for the key, or joins the one already in flight.
+     *
+     * @param key identifies identical calls; a null key is never coalesced
+     * @param call supplies the call to run when none is in flight
+     * @return a Mono with the result of the shared call
+     */
+    public Mono<V> execute(K key, Supplier<Mono<V>> call) {
+        if (key == null) {
+            return Mono.defer(call);
+        }
+        return Mono.defer(() -> {
+            requests.increment();
+            return inFlight.computeIfAbsent(key, k -> flight(k, call));
+        });
+    }
+
+    /**
+     * @return the number of calls requested, shared or not
+     */
+    public long requests() {
+        return requests.sum();
+    }
+
+    /**
+     * @return the number of calls actually run
+     */
+    public long executions() {
+        return executions.sum();
+    }
+
+    private Mono<V> flight(K key, Supplier<Mono<V>> call) {
+        executions.increment();
+        Flight flight = new Flight();
+        flight.shared = Mono.defer(call)
+                .doFinally(signal -> inFlight.remove(key, flight.shared))
+                .share();
+        return flight.shared;
+    }
+
+    private final class Flight {
+        private Mono<V> shared;
+    }
+}
@@ -0,0 +1,159 @@
+package com.firefly.domain.people.core.integration.client;
+
+import com.firefly.domain.people.core.integration.properties.CustomerMgmtProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReadHedgerTest {
+
+    private static final String OPERATION = "getParty";
+    private static final Duration HEDGE_DELAY = Duration.ofMillis(50);
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void aReadIsNotHedgedBeforeEnoughLatenciesAreKnown() {
+        ReadHedger hedger = hedger(10);
+        Reads reads = new Reads(Mono.delay(HEDGE_DELAY.multipliedBy(2)).thenReturn("original"), Mono.just("hedge"));
+
+        assertThat(hedger.hedge(OPERATION, reads).block(TIMEOUT)).isEqualTo("original");
+        assertThat(reads.calls()).hasValue(1);
+        assertThat(hedges("sent")).isZero();
+    }
+
+    @Test
+    void aSlowReadIsHedgedAndTheFirstAnswerWins() {
+        ReadHedger hedger = warmedUp(hedger(10));
+        Reads reads = new Reads(Mono.never(), Mono.just("hedge"));
+
+        assertThat(hedger.hedge(OPERATION, reads).block(TIMEOUT)).isEqualTo("hedge");
+        assertThat(reads.calls()).hasValue(2);
+        assertThat(hedges("sent")).isEqualTo(1);
+        assertThat(hedges("won")).isEqualTo(1);
+    }
+
+    @Test
+    void aFastReadIsNotHedged() {
+        ReadHedger hedger = warmedUp(hedger(10));
+        Reads reads = new Reads(Mono.just("original"), Mono.just("hedge"));
+
+        assertThat(hedger.hedge(OPERATION, reads).block(TIMEOUT)).isEqualTo("original");
+        assertThat(reads.calls()).hasValue(1);
+        assertThat(hedges("sent")).isZero();
+    }
+
+    @Test
+    void aReadFailingWhileItsHedgeIsInFlightWaitsForTheHedge() {
+        ReadHedger hedger = warmedUp(hedger(10));
+        Reads reads = new Reads(
+                failAfter(HEDGE_DELAY.multipliedBy(2), "original"),
+                Mono.delay(HEDGE_DELAY.multipliedBy(4)).thenReturn("hedge"));
+
+        assertThat(hedger.hedge(OPERATION, reads).block(TIMEOUT)).isEqualTo("hedge");
+        assertThat(hedges("won")).isEqualTo(1);
+    }
+
+    @Test
+    void whenBothReadsFailTheCallFailsWithTheErrorOfTheOriginalRead() {
+        ReadHedger hedger = warmedUp(hedger(10));
+        Reads reads = new Reads(
+                failAfter(HEDGE_DELAY.multipliedBy(2), "original"),
+                failAfter(HEDGE_DELAY.multipliedBy(4), "hedge"));
+
+        assertThatThrownBy(() -> hedger.hedge(OPERATION, reads).block(TIMEOUT))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("original");
+        assertThat(hedges("sent")).isEqualTo(1);
+        assertThat(hedges("won")).isZero();
+    }
+
+    @Test
+    void aReadFailingBeforeItIsHedgedFailsAtOnce() {
+        ReadHedger hedger = warmedUp(hedger(10));
+        Reads reads = new Reads(Mono.error(new IllegalStateException("original")), Mono.just("hedge"));
+
+        assertThatThrownBy(() -> hedger.hedge(OPERATION, reads).block(TIMEOUT))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("original");
+        assertThat(reads.calls()).hasValue(1);
+        assertThat(hedges("sent")).isZero();
+    }
+
+    @Test
+    void hedgesAreLimitedByTheBudget() {
+        ReadHedger hedger = warmedUp(hedger(1));
+        Mono<String> slow = Mono.delay(HEDGE_DELAY.multipliedBy(3)).thenReturn("original");
+
+        assertThat(hedger.hedge(OPERATION, new Reads(slow, Mono.just("hedge"))).block(TIMEOUT)).isEqualTo("hedge");
+        assertThat(hedger.hedge(OPERATION, new Reads(slow, Mono.just("hedge"))).block(TIMEOUT)).isEqualTo("original");
+        assertThat(hedges("sent")).isEqualTo(1);
+    }
+
+    private ReadHedger hedger(double maxBudget) {
+        CustomerMgmtProperties properties = new CustomerMgmtProperties();
+        CustomerMgmtProperties.Hedging hedging = properties.getHedging();
+        hedging.setEnabled(true);
+        hedging.setPercentile(0.5);
+        hedging.setWindowSize(10);
+        hedging.setMinSamples(2);
+        hedging.setMinDelay(HEDGE_DELAY);
+        hedging.setBudgetRatio(0);
+        hedging.setMaxBudget(maxBudget);
+        return new ReadHedger(properties, meterRegistry);
+    }
+
+    /**
+     * Records the latencies of two immediate reads, so that later reads are hedged after the
+     * minimum delay.
+     */
+    private static ReadHedger warmedUp(ReadHedger hedger) {
+        hedger.hedge(OPERATION, () -> Mono.just("warm-up")).block(TIMEOUT);
+        hedger.hedge(OPERATION, () -> Mono.just("warm-up")).block(TIMEOUT);
+        return hedger;
+    }
+
+    private double hedges(String outcome) {
+        Counter counter = meterRegistry.find(ReadHedger.HEDGES_COUNTER)
+                .tag("operation", OPERATION)
+                .tag("outcome", outcome)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static Mono<String> failAfter(Duration delay, String message) {
+        return Mono.delay(delay).then(Mono.error(new IllegalStateException(message)));
+    }
+
+    /**
+     * Answers the original read, then the hedge.
+     */
+    private static final class Reads implements Supplier<Mono<String>> {
+
+        private final List<Mono<String>> answers;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private Reads(Mono<String> original, Mono<String> hedge) {
+            this.answers = List.of(original, hedge);
+        }
+
+        @Override
+        public Mono<String> get() {
+            return answers.get(calls.getAndIncrement());
+        }
+
+        AtomicInteger calls() {
+            return calls;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.firefly.domain.people.core.orchestrator.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.domain.people.core.orchestrator.customer.CustomerSagaContext;
+import com.firefly.domain.people.core.orchestrator.properties.SagaProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SagaJournalTest {
+
+    private static final String FIRST_SEGMENT = "segment-0000000001.log";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void unfinishedSagasHoldTheStepsOfSagasStartedButNotFinished() throws Exception {
+        SagaJournal journal = journal(Long.MAX_VALUE);
+        CustomerSagaContext finished = new CustomerSagaContext("finished");
+        CustomerSagaContext running = new CustomerSagaContext("running");
+
+        journal.track(finished, "register", null, Mono.fromSupplier(() -> {
+            journal.recordStep(finished, "registerParty", 1L);
+            return "done";
+        })).block();
+        Disposable execution = journal.track(running, "status", "payload", Mono.never()).subscribe();
+        running.variables().put("partyId", 2L);
+        journal.recordStep(running, "registerParty", 2L);
+        journal.recordStep(running, "registerEmail", 3L);
+        journal.close();
+        execution.dispose();
+
+        List<SagaJournal.UnfinishedSaga> unfinished = journal(Long.MAX_VALUE).unfinishedSagas();
+
+        assertThat(unfinished).hasSize(1);
+        SagaJournal.UnfinishedSaga saga = unfinished.get(0);
+        assertThat(saga.sagaId()).isEqualTo("running");
+        assertThat(saga.saga()).isEqualTo("status");
+        assertThat(saga.payload().asText()).isEqualTo("payload");
+        assertThat(saga.steps()).extracting(SagaJournalEntry::stepId).containsExactly("registerParty", "registerEmail");
+        assertThat(saga.steps()).extracting(SagaJournalEntry::id).containsExactly(2L, 3L);
+        assertThat(saga.steps().get(1).variables()).containsEntry("partyId", 2);
+    }
+
+    @Test
+    void aStepRecordedAsStartingIsUnfinishedUntilItCompletes() throws Exception {
+        SagaJournal journal = journal(Long.MAX_VALUE);
+        CustomerSagaContext interrupted = new CustomerSagaContext("interrupted");
+        CustomerSagaContext completed = new CustomerSagaContext("completed");
+        Disposable first = journal.track(interrupted, "register", null, Mono.never()).subscribe();
+        Disposable second = journal.track(completed, "register", null, Mono.never()).subscribe();
+        journal.recordStepStarting(interrupted, "registerParty", "input", "key-1").block();
+        journal.recordStepStarting(completed, "registerParty", "input", "key-2").block();
+        journal.recordStep(completed, "registerParty", 1L);
+        journal.close();
+        first.dispose();
+        second.dispose();
+
+        List<SagaJournal.UnfinishedSaga> unfinished = journal(Long.MAX_VALUE).unfinishedSagas();
+
+        assertThat(unfinished).extracting(SagaJournal.UnfinishedSaga::sagaId).containsExactly("interrupted", "completed");
+        SagaJournalEntry started = unfinished.get(0).startedSteps().get(0);
+        assertThat(started.stepId()).isEqualTo("registerParty");
+        assertThat(started.idempotencyKey()).isEqualTo("key-1");
+        assertThat(started.payload().asText()).isEqualTo("input");
+        assertThat(unfinished.get(0).steps()).isEmpty();
+        assertThat(unfinished.get(1).startedSteps()).isEmpty();
+        assertThat(unfinished.get(1).steps()).extracting(SagaJournalEntry::id).containsExactly(1L);
+    }
+
+    @Test
+    void unfinishedSagasSkipATornLastRecord() throws Exception {
+        Files.writeString(directory.resolve(FIRST_SEGMENT),
+                "{\"type\":\"BEGIN\",\"sagaId\":\"torn\",\"saga\":\"register\"}\n{\"type\":\"STEP\",\"sagaId\":\"to");
+
+        List<SagaJournal.UnfinishedSaga> unfinished = journal(Long.MAX_VALUE).unfinishedSagas();
+
+        assertThat(unfinished).extracting(SagaJournal.UnfinishedSaga::sagaId).containsExactly("torn");
+        assertThat(unfinished.get(0).steps()).isEmpty();
+    }
+
+    @Test
+    void segmentsOfFinishedSagasAreDeletedOnRoll() throws Exception {
+        SagaJournal journal = journal(1);
+        for (int i = 0; i < 20; i++) {
+            journal.track(new CustomerSagaContext("saga-" + i), "register", null, Mono.just(i)).block();
+        }
+        journal.close();
+
+        assertThat(segments()).hasSize(1);
+        assertThat(journal(1).unfinishedSagas()).isEmpty();
+    }
+
+    @Test
+    void aRunningSagaKeepsTheSegmentHoldingItsStart() throws Exception {
+        SagaJournal journal = journal(1);
+        CustomerSagaContext running = new CustomerSagaContext("running");
+        Disposable execution = journal.track(running, "register", null, Mono.never()).subscribe();
+        journal.recordStep(running, "registerParty", 1L);
+        for (int i = 0; i < 20; i++) {
+            journal.track(new CustomerSagaContext("saga-" + i), "register", null, Mono.just(i)).block();
+        }
+        journal.close();
+        execution.dispose();
+
+        assertThat(segments()).contains(FIRST_SEGMENT);
+        assertThat(journal(1).unfinishedSagas()).extracting(SagaJournal.UnfinishedSaga::sagaId).containsExactly("running");
+    }
+
+    @Test
+    void aFailedSagaReleasesItsSegmentAndIsStillRecovered() throws Exception {
+        SagaJournal journal = journal(1);
+        CustomerSagaContext failed = new CustomerSagaContext("failed");
+        journal.track(failed, "register", null, Mono.defer(() -> {
+            journal.recordStep(failed, "registerParty", 1L);
+            return Mono.error(new IllegalStateException("engine failure"));
+        })).onErrorResume(error -> Mono.empty()).block();
+        for (int i = 0; i < 20; i++) {
+            journal.track(new CustomerSagaContext("saga-" + i), "register", null, Mono.just(i)).block();
+        }
+        journal.close();
+
+        assertThat(segments()).doesNotContain(FIRST_SEGMENT);
+        List<SagaJournal.UnfinishedSaga> unfinished = journal(1).unfinishedSagas();
+        assertThat(unfinished).extracting(SagaJournal.UnfinishedSaga::sagaId).containsExactly("failed");
+        assertThat(unfinished.get(0).steps()).extracting(SagaJournalEntry::stepId).containsExactly("registerParty");
+    }
+
+    @Test
+    void previousSegmentsAreKeptUntilDiscarded() throws Exception {
+        SagaJournal journal = journal(Long.MAX_VALUE);
+        Disposable execution = journal.track(new CustomerSagaContext("running"), "register", null, Mono.never()).subscribe();
+        journal.close();
+        execution.dispose();
+
+        SagaJournal restarted = journal(Long.MAX_VALUE);
+        assertThat(segments()).contains(FIRST_SEGMENT);
+        restarted.discardPreviousSegments();
+        restarted.close();
+
+        assertThat(segments()).doesNotContain(FIRST_SEGMENT).hasSize(1);
+    }
+
+    private SagaJournal journal(long segmentSize) throws IOException {
+        SagaProperties properties = new SagaProperties();
+        properties.getJournal().setDirectory(directory.toString());
+        properties.getJournal().setSegmentSize(segmentSize);
+        return new SagaJournal(properties, objectMapper);
+    }
+
+    private List<String> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.firefly.domain.people.core.service.index;
+
+import com.firefly.domain.people.core.orchestrator.properties.SagaProperties;
+import com.firefly.domain.people.core.service.exceptions.DuplicateTaxIdException;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaxIdIndexTest {
+
+    private final TaxIdIndex index = new TaxIdIndex(new SagaProperties());
+
+    @Test
+    void aReservedTaxIdRejectsAnotherRegistrationUntilReleased() {
+        index.reserve("12.345.678-Z").block();
+
+        assertThatThrownBy(() -> index.reserve("12345678z").block()).isInstanceOf(DuplicateTaxIdException.class);
+        index.release("12345678Z");
+        index.reserve("12345678Z").block();
+    }
+
+    @Test
+    void aConfirmedTaxIdStaysRegisteredAfterItsReservationEnds() {
+        index.reserve("B12345678").block();
+        index.confirm("B12345678", 7L);
+        index.release("B12345678");
+
+        assertThat(index.contains("B12345678")).isTrue();
+        assertThatThrownBy(() -> index.reserve("B12345678").block()).isInstanceOf(DuplicateTaxIdException.class);
+    }
+
+    @Test
+    void theReservationIsTakenOnSubscription() {
+        Mono<Void> reservation = index.reserve("X1");
+
+        assertThat(index.contains("X1")).isFalse();
+        reservation.block();
+        assertThat(index.contains("X1")).isTrue();
+    }
+
+    @Test
+    void taxIdsWithoutLettersOrDigitsAreNotIndexed() {
+        index.reserve("--").block();
+        index.reserve("./").block();
+
+        assertThat(index.contains("--")).isFalse();
+    }
+}
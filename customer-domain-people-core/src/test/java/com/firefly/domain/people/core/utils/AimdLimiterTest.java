@@ -0,0 +1,87 @@
+package com.firefly.domain.people.core.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AimdLimiterTest {
+
+    private static final long THRESHOLD = 1_000;
+
+    @Test
+    void rejectsCallsBeyondTheLimit() {
+        AimdLimiter limiter = new AimdLimiter(2, 1, 10, 0.5, THRESHOLD);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void fastCallsRaiseALimitInUseByOne() {
+        AimdLimiter limiter = new AimdLimiter(2, 1, 3, 0.5, THRESHOLD);
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        limiter.onSuccess(THRESHOLD);
+        assertThat(limiter.limit()).isEqualTo(3);
+
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.onSuccess(THRESHOLD);
+        assertThat(limiter.limit()).isEqualTo(3);
+        assertThat(limiter.inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void fastCallsLeaveALimitMostlyUnusedUnchanged() {
+        AimdLimiter limiter = new AimdLimiter(4, 1, 10, 0.5, THRESHOLD);
+        limiter.tryAcquire();
+
+        limiter.onSuccess(1);
+
+        assertThat(limiter.limit()).isEqualTo(4);
+    }
+
+    @Test
+    void slowCallsAndOverloadsCutTheLimitDownToTheMinimum() {
+        AimdLimiter limiter = new AimdLimiter(8, 2, 10, 0.5, THRESHOLD);
+
+        limiter.tryAcquire();
+        limiter.onSuccess(THRESHOLD + 1);
+        assertThat(limiter.limit()).isEqualTo(4);
+
+        limiter.tryAcquire();
+        limiter.onOverload();
+        assertThat(limiter.limit()).isEqualTo(2);
+
+        limiter.tryAcquire();
+        limiter.onOverload();
+        assertThat(limiter.limit()).isEqualTo(2);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    void unshedCallsCountAgainstTheLimitAndIgnoredCallsLeaveItUnchanged() {
+        AimdLimiter limiter = new AimdLimiter(1, 1, 10, 0.5, THRESHOLD);
+        limiter.tryAcquire();
+        limiter.acquire();
+
+        assertThat(limiter.inFlight()).isEqualTo(2);
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.onIgnore();
+        limiter.onIgnore();
+
+        assertThat(limiter.inFlight()).isZero();
+        assertThat(limiter.limit()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsInconsistentLimits() {
+        assertThatThrownBy(() -> new AimdLimiter(1, 2, 10, 0.5, THRESHOLD)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AimdLimiter(2, 1, 10, 1, THRESHOLD)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,112 @@
+package com.firefly.domain.people.core.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private static final long OPEN_NANOS = 1_000;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void opensOnceTheFailureRateOfTheMinimumCallsReachesTheThreshold() {
+        CircuitBreaker breaker = breaker(4, 4, 1);
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onFailure();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.failureRate()).isZero();
+
+        breaker.onSuccess();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void oldOutcomesLeaveTheWindow() {
+        CircuitBreaker breaker = breaker(4, 4, 1);
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onSuccess();
+        breaker.onSuccess();
+        breaker.onSuccess();
+
+        assertThat(breaker.failureRate()).isZero();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void letsTrialCallsThroughAfterTheOpenDurationAndClosesWhenTheyAllSucceed() {
+        CircuitBreaker breaker = opened(2);
+
+        clock.addAndGet(OPEN_NANOS - 1);
+        assertThat(breaker.tryAcquire()).isFalse();
+        clock.incrementAndGet();
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.onSuccess();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        breaker.onSuccess();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.failureRate()).isZero();
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void aFailedTrialCallOpensAgain() {
+        CircuitBreaker breaker = opened(2);
+        clock.addAndGet(OPEN_NANOS);
+        assertThat(breaker.tryAcquire()).isTrue();
+
+        breaker.onFailure();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+        clock.addAndGet(OPEN_NANOS);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void anIgnoredTrialCallGivesBackItsPermit() {
+        CircuitBreaker breaker = opened(1);
+        clock.addAndGet(OPEN_NANOS);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.onIgnore();
+
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void aLateOutcomeOfACallSentBeforeOpeningIsNotRecorded() {
+        CircuitBreaker breaker = opened(1);
+
+        breaker.onSuccess();
+        breaker.onFailure();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private CircuitBreaker opened(int halfOpenCalls) {
+        CircuitBreaker breaker = breaker(2, 2, halfOpenCalls);
+        breaker.onFailure();
+        breaker.onFailure();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        return breaker;
+    }
+
+    private CircuitBreaker breaker(int windowSize, int minimumCalls, int halfOpenCalls) {
+        return new CircuitBreaker(windowSize, minimumCalls, 0.5, OPEN_NANOS, halfOpenCalls, clock::get);
+    }
+}
@@ -0,0 +1,119 @@
+package com.firefly.domain.people.core.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class P2cBalancerTest {
+
+    private static final long EJECTION_NANOS = TimeUnit.HOURS.toNanos(1);
+
+    @Test
+    void prefersTheMemberWithFewerOutstandingCalls() {
+        P2cBalancer<String> balancer = new P2cBalancer<>(List.of("a", "b"), 3, 2, EJECTION_NANOS, 0.5);
+        P2cBalancer.Member<String> held = pick(balancer, "a");
+
+        P2cBalancer.Member<String> chosen = balancer.choose();
+
+        assertThat(chosen.target()).isEqualTo("b");
+        assertThat(held.outstanding()).isEqualTo(1);
+        assertThat(chosen.outstanding()).isEqualTo(1);
+    }
+
+    @Test
+    void ejectsAMemberAfterConsecutiveFailures() {
+        P2cBalancer<String> balancer = new P2cBalancer<>(List.of("a", "b"), 3, 2, EJECTION_NANOS, 0.5);
+        pick(balancer, "a").onFailure();
+        pick(balancer, "a").onFailure();
+        pick(balancer, "a").onSuccess(1);
+        pick(balancer, "a").onFailure();
+        pick(balancer, "a").onFailure();
+
+        assertThat(member(balancer, "a").ejected()).isFalse();
+
+        pick(balancer, "a").onFailure();
+
+        assertThat(member(balancer, "a").ejected()).isTrue();
+        assertThat(member(balancer, "a").outstanding()).isZero();
+        for (int i = 0; i < 20; i++) {
+            P2cBalancer.Member<String> chosen = balancer.choose();
+            assertThat(chosen.target()).isEqualTo("b");
+            chosen.onIgnore();
+        }
+    }
+
+    @Test
+    void ejectsAMemberMuchSlowerThanTheFastestOnceItHasEnoughSamples() {
+        P2cBalancer<String> balancer = new P2cBalancer<>(List.of("a", "b"), 3, 2, EJECTION_NANOS, 0.5);
+        pick(balancer, "b").onSuccess(100);
+        for (int i = 0; i < 9; i++) {
+            pick(balancer, "a").onSuccess(1_000);
+        }
+
+        assertThat(member(balancer, "a").ejected()).isFalse();
+
+        pick(balancer, "a").onSuccess(1_000);
+
+        assertThat(member(balancer, "a").ejected()).isTrue();
+        assertThat(member(balancer, "b").ejected()).isFalse();
+    }
+
+    @Test
+    void neverEjectsMoreThanTheMaximumShareOfTheMembers() {
+        P2cBalancer<String> balancer = new P2cBalancer<>(List.of("a", "b"), 1, 2, EJECTION_NANOS, 0.5);
+        pick(balancer, "a").onFailure();
+
+        P2cBalancer.Member<String> chosen = balancer.choose();
+        assertThat(chosen.target()).isEqualTo("b");
+        chosen.onFailure();
+
+        assertThat(member(balancer, "a").ejected()).isTrue();
+        assertThat(member(balancer, "b").ejected()).isFalse();
+    }
+
+    @Test
+    void picksAmongAllMembersWhenEveryMemberIsEjected() {
+        P2cBalancer<String> balancer = new P2cBalancer<>(List.of("a", "b"), 1, 2, EJECTION_NANOS, 1);
+        pick(balancer, "a").onFailure();
+        balancer.choose().onFailure();
+
+        assertThat(balancer.members()).allMatch(P2cBalancer.Member::ejected);
+
+        P2cBalancer.Member<String> chosen = balancer.choose();
+
+        assertThat(chosen.outstanding()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsALatencyFactorThatWouldEjectAverageMembers() {
+        assertThatThrownBy(() -> new P2cBalancer<>(List.of("a"), 3, 1, EJECTION_NANOS, 0.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Chooses until the target comes up, holding the other picks so that they grow costlier,
+     * then gives them back.
+     */
+    private static <T> P2cBalancer.Member<T> pick(P2cBalancer<T> balancer, T target) {
+        List<P2cBalancer.Member<T>> others = new ArrayList<>();
+        P2cBalancer.Member<T> chosen = balancer.choose();
+        while (!chosen.target().equals(target)) {
+            others.add(chosen);
+            chosen = balancer.choose();
+        }
+        others.forEach(P2cBalancer.Member::onIgnore);
+        return chosen;
+    }
+
+    private static <T> P2cBalancer.Member<T> member(P2cBalancer<T> balancer, T target) {
+        return balancer.members().stream()
+                .filter(member -> member.target().equals(target))
+                .findFirst()
+                .orElseThrow();
+    }
+}
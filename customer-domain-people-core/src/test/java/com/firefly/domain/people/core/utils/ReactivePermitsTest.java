@@ -0,0 +1,127 @@
+package com.firefly.domain.people.core.utils;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReactivePermitsTest {
+
+    @Test
+    void queuesSubscribersBeyondTheLimitInOrder() {
+        ReactivePermits permits = new ReactivePermits(1);
+        Sinks.Empty<Void> first = Sinks.empty();
+        Sinks.Empty<Void> second = Sinks.empty();
+        List<String> started = new ArrayList<>();
+
+        permits.withPermit(() -> run(started, "first", first)).subscribe();
+        permits.withPermit(() -> run(started, "second", second)).subscribe();
+        permits.withPermit(() -> run(started, "third", Sinks.empty())).subscribe();
+
+        assertThat(started).containsExactly("first");
+        assertThat(permits.inUse()).isEqualTo(1);
+        assertThat(permits.queued()).isEqualTo(2);
+
+        first.tryEmitEmpty();
+        assertThat(started).containsExactly("first", "second");
+
+        second.tryEmitError(new IllegalStateException("boom"));
+        assertThat(started).containsExactly("first", "second", "third");
+        assertThat(permits.inUse()).isEqualTo(1);
+        assertThat(permits.queued()).isZero();
+    }
+
+    @Test
+    void cancellingReleasesTheHeldPermit() {
+        ReactivePermits permits = new ReactivePermits(1);
+        Disposable running = permits.withPermit(Mono::never).subscribe();
+
+        running.dispose();
+
+        assertThat(permits.inUse()).isZero();
+        assertThat(permits.withPermit(() -> Mono.just("next")).block()).isEqualTo("next");
+    }
+
+    @Test
+    void aCancelledSubscriberGivesUpItsPlaceInTheQueue() {
+        ReactivePermits permits = new ReactivePermits(1);
+        Sinks.Empty<Void> first = Sinks.empty();
+        List<String> started = new ArrayList<>();
+        permits.withPermit(() -> run(started, "first", first)).subscribe();
+        Disposable cancelled = permits.withPermit(() -> run(started, "cancelled", Sinks.empty())).subscribe();
+
+        cancelled.dispose();
+        assertThat(permits.queued()).isZero();
+
+        first.tryEmitEmpty();
+        assertThat(started).containsExactly("first");
+        assertThat(permits.inUse()).isZero();
+    }
+
+    @Test
+    void reportsTheTimeSpentWaiting() {
+        ReactivePermits permits = new ReactivePermits(1);
+        Sinks.Empty<Void> first = Sinks.empty();
+        AtomicLong waited = new AtomicLong(-1);
+        permits.withPermit(first::asMono).subscribe();
+        permits.withPermit(() -> Mono.empty(), waited::set).subscribe();
+
+        assertThat(waited).hasValue(-1);
+        first.tryEmitEmpty();
+
+        assertThat(waited.get()).isNotNegative();
+    }
+
+    @Test
+    void aPermitHandedToASubscriberCancelledAtTheSameTimeIsNotLost() throws Exception {
+        ReactivePermits permits = new ReactivePermits(1);
+        for (int i = 0; i < 1_000; i++) {
+            Sinks.Empty<Void> holder = Sinks.empty();
+            permits.withPermit(holder::asMono).subscribe();
+            Disposable waiter = permits.withPermit(Mono::never).subscribe();
+
+            runConcurrently(holder::tryEmitEmpty, waiter::dispose);
+
+            assertThat(permits.inUse()).as("permits in use after round %d", i).isZero();
+            assertThat(permits.queued()).as("subscribers queued after round %d", i).isZero();
+        }
+    }
+
+    @Test
+    void rejectsANonPositiveLimit() {
+        assertThatThrownBy(() -> new ReactivePermits(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Mono<Void> run(List<String> started, String name, Sinks.Empty<Void> completion) {
+        started.add(name);
+        return completion.asMono();
+    }
+
+    private static void runConcurrently(Runnable first, Runnable second) throws Exception {
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        Thread thread = new Thread(() -> {
+            await(barrier);
+            first.run();
+        });
+        thread.start();
+        await(barrier);
+        second.run();
+        thread.join();
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.firefly.domain.people.core.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RetryBudgetTest {
+
+    @Test
+    void startsFullSoThatAFewRetriesGoThroughAtOnce() {
+        RetryBudget budget = new RetryBudget(0.25, 2);
+
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isFalse();
+    }
+
+    @Test
+    void requestsEarnTheirShareOfARetry() {
+        RetryBudget budget = new RetryBudget(0.25, 1);
+        budget.tryWithdraw();
+
+        for (int i = 0; i < 3; i++) {
+            budget.deposit();
+            assertThat(budget.tryWithdraw()).isFalse();
+        }
+        budget.deposit();
+
+        assertThat(budget.tokens()).isEqualTo(1.0);
+        assertThat(budget.tryWithdraw()).isTrue();
+    }
+
+    @Test
+    void neverHoldsMoreThanItsCapacity() {
+        RetryBudget budget = new RetryBudget(0.5, 2);
+
+        for (int i = 0; i < 10; i++) {
+            budget.deposit();
+        }
+
+        assertThat(budget.tokens()).isEqualTo(2.0);
+    }
+
+    @Test
+    void rejectsACapacityBelowOneRetry() {
+        assertThatThrownBy(() -> new RetryBudget(0.1, 0.5)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
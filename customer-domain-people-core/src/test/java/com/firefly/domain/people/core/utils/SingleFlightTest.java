@@ -0,0 +1,99 @@
+package com.firefly.domain.people.core.utils;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void concurrentCallsWithTheSameKeyShareOneExecution() {
+        Sinks.One<String> result = Sinks.one();
+        AtomicInteger calls = new AtomicInteger();
+        List<String> received = new ArrayList<>();
+
+        singleFlight.execute("key", () -> {
+            calls.incrementAndGet();
+            return result.asMono();
+        }).subscribe(received::add);
+        singleFlight.execute("key", () -> {
+            calls.incrementAndGet();
+            return Mono.just("other");
+        }).subscribe(received::add);
+        result.tryEmitValue("value");
+
+        assertThat(received).containsExactly("value", "value");
+        assertThat(calls).hasValue(1);
+        assertThat(singleFlight.requests()).isEqualTo(2);
+        assertThat(singleFlight.executions()).isEqualTo(1);
+    }
+
+    @Test
+    void differentKeysRunSeparately() {
+        singleFlight.execute("first", Mono::never).subscribe();
+        singleFlight.execute("second", Mono::never).subscribe();
+
+        assertThat(singleFlight.executions()).isEqualTo(2);
+    }
+
+    @Test
+    void aTerminatedCallIsNotReused() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String first = singleFlight.execute("key", () -> Mono.just("call-" + calls.incrementAndGet())).block();
+        String second = singleFlight.execute("key", () -> Mono.just("call-" + calls.incrementAndGet())).block();
+
+        assertThat(first).isEqualTo("call-1");
+        assertThat(second).isEqualTo("call-2");
+        assertThat(singleFlight.executions()).isEqualTo(2);
+    }
+
+    @Test
+    void aFailureReachesEverySubscriberAndIsNotReused() {
+        Sinks.One<String> result = Sinks.one();
+        List<Throwable> errors = new ArrayList<>();
+        singleFlight.execute("key", result::asMono).subscribe(value -> { }, errors::add);
+        singleFlight.execute("key", result::asMono).subscribe(value -> { }, errors::add);
+
+        result.tryEmitError(new IllegalStateException("boom"));
+
+        assertThat(errors).hasSize(2).allMatch(IllegalStateException.class::isInstance);
+        assertThat(singleFlight.execute("key", () -> Mono.just("retried")).block()).isEqualTo("retried");
+    }
+
+    @Test
+    void theCallIsCancelledOnlyWhenEverySubscriberHasCancelled() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Disposable first = singleFlight.execute("key", () -> Mono.<String>never().doOnCancel(() -> cancelled.set(true)))
+                .subscribe();
+        Disposable second = singleFlight.execute("key", Mono::never).subscribe();
+
+        first.dispose();
+        assertThat(cancelled).isFalse();
+
+        second.dispose();
+        assertThat(cancelled).isTrue();
+        assertThat(singleFlight.execute("key", () -> Mono.just("next")).block()).isEqualTo("next");
+    }
+
+    @Test
+    void callsWithoutAKeyAreNeverCoalesced() {
+        AtomicInteger calls = new AtomicInteger();
+
+        singleFlight.execute(null, () -> Mono.<String>never().doOnSubscribe(s -> calls.incrementAndGet())).subscribe();
+        singleFlight.execute(null, () -> Mono.<String>never().doOnSubscribe(s -> calls.incrementAndGet())).subscribe();
+
+        assertThat(calls).hasValue(2);
+        assertThat(singleFlight.requests()).isZero();
+    }
+}
@@ -0,0 +1,26 @@
+package com.firefly.domain.people.interfaces.dto.query;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "CustomerRegistrationResult", description = "Output DTO to represent the outcome of one record of a bulk registration")
+public class CustomerRegistrationResult {
+    @Schema(description = "Zero-based position of the record in the submitted stream")
+    private Long index;
+
+    @Schema(description = "Identifier of the created party, when the registration succeeded")
+    private Long partyId;
+
+    @Schema(description = "Whether the registration succeeded")
+    private boolean success;
+
+    @Schema(description = "Error description, when the registration failed")
+    private String error;
+}
@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 @Data
@@ -29,4 +30,10 @@ public class PersonView {
 
     @Schema(description = "Contact email")
     private String email;
+
+    @Schema(description = "Whether parts of the profile could not be read and are left empty")
+    private boolean incomplete;
+
+    @Schema(description = "Parts of the profile left empty: DETAILS (tax id, name, birth date) or EMAIL")
+    private List<String> missingSections;
 }
\ No newline at end of file
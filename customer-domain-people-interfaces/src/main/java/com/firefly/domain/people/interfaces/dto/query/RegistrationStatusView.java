@@ -0,0 +1,38 @@
+package com.firefly.domain.people.interfaces.dto.query;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "RegistrationStatusView", description = "Output DTO to represent the progress of an asynchronous customer registration")
+public class RegistrationStatusView {
+    @Schema(description = "Identifier of the registration saga")
+    private String sagaId;
+
+    @Schema(description = "Registration status: QUEUED, RUNNING, COMPLETED or FAILED")
+    private String status;
+
+    @Schema(description = "Identifier of the created party, once known")
+    private Long partyId;
+
+    @Schema(description = "Error description, when the registration failed")
+    private String error;
+
+    @Schema(description = "Time the registration was accepted")
+    private Instant submittedAt;
+
+    @Schema(description = "Time the registration finished")
+    private Instant finishedAt;
+
+    @Schema(description = "Progress of the registration steps that have started")
+    private List<RegistrationStepView> steps;
+}
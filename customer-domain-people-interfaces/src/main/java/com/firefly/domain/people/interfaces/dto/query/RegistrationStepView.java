@@ -0,0 +1,26 @@
+package com.firefly.domain.people.interfaces.dto.query;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "RegistrationStepView", description = "Output DTO to represent the progress of one registration step")
+public class RegistrationStepView {
+    @Schema(description = "Step identifier")
+    private String stepId;
+
+    @Schema(description = "Number of step items that started")
+    private int started;
+
+    @Schema(description = "Number of step items that completed")
+    private int completed;
+
+    @Schema(description = "Number of step items that failed")
+    private int failed;
+}
@@ -0,0 +1,24 @@
+package com.firefly.domain.people.web.actuator;
+
+import com.firefly.domain.people.core.integration.client.CustomerMgmtGuard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint {@code /actuator/customermgmt} showing the current adaptive concurrency
+ * limit towards customer-mgmt and the state of its circuit breakers.
+ */
+@Component
+@Endpoint(id = "customermgmt")
+@RequiredArgsConstructor
+public class CustomerMgmtEndpoint {
+
+    private final CustomerMgmtGuard customerMgmtGuard;
+
+    @ReadOperation
+    public CustomerMgmtGuard.GuardState state() {
+        return customerMgmtGuard.state();
+    }
+}
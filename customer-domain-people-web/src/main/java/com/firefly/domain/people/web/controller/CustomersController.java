@@ -1,18 +1,28 @@
 package com.firefly.domain.people.web.controller;
 
+import com.firefly.domain.people.core.integration.client.DeadlineExceededException;
 import com.firefly.domain.people.core.service.CommandService;
 import com.firefly.domain.people.core.service.QueryService;
 import com.firefly.domain.people.core.service.exceptions.DuplicateTaxIdException;
+import com.firefly.domain.people.core.service.exceptions.RegistrationQueueFullException;
 import com.firefly.domain.people.interfaces.dto.commands.*;
+import com.firefly.domain.people.interfaces.dto.query.CustomerRegistrationResult;
 import com.firefly.domain.people.interfaces.dto.query.PersonView;
+import com.firefly.domain.people.interfaces.dto.query.RegistrationStatusView;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.net.URI;
+
 @RestController
 @RequestMapping("/api/v1/customers")
 @RequiredArgsConstructor
@@ -22,15 +32,49 @@ public class CustomersController {
     private final QueryService queryService;
     private final CommandService commandService;
 
+    private static final String PREFER = "Prefer";
+    private static final String RESPOND_ASYNC = "respond-async";
+    private static final String PREFERENCE_APPLIED = "Preference-Applied";
+
     @PostMapping
-    @Operation(summary = "Register a customer", description = "Registers a customer")
-    public Mono<ResponseEntity<Object>> registerCustomer(@Valid @RequestBody RegisterCustomerCommand command) {
+    @Operation(summary = "Register a customer",
+            description = "Registers a customer. With `Prefer: respond-async` the registration is queued and 202 is returned with the status location")
+    public Mono<ResponseEntity<Object>> registerCustomer(
+            @RequestHeader(value = PREFER, required = false) String prefer,
+            @Valid @RequestBody RegisterCustomerCommand command) {
+        if (prefer != null && prefer.contains(RESPOND_ASYNC)) {
+            return commandService.registerAsync(command)
+                    .map(sagaId -> ResponseEntity.accepted()
+                            .location(URI.create("/api/v1/customers/registrations/" + sagaId))
+                            .header(PREFERENCE_APPLIED, RESPOND_ASYNC)
+                            .build())
+                    .onErrorResume(RegistrationQueueFullException.class,
+                            ex -> Mono.just(ResponseEntity.status(503).header(HttpHeaders.RETRY_AFTER, "1").build()));
+        }
         return commandService.register(command)
                 .thenReturn(ResponseEntity.noContent().build())
                 .onErrorResume(DuplicateTaxIdException.class,
                         ex -> Mono.just(ResponseEntity.status(409).body(null)));
     }
 
+    @GetMapping("/registrations/{sagaId}")
+    @Operation(summary = "Get registration status",
+            description = "Returns step-level progress and the resulting party id of an asynchronous registration")
+    public Mono<ResponseEntity<RegistrationStatusView>> retrieveRegistrationStatus(@PathVariable("sagaId") String sagaId) {
+        return queryService.getRegistrationStatus(sagaId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping(value = "/bulk",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Register customers in bulk",
+            description = "Registers a NDJSON stream of customers and streams back one result per record as it finishes")
+    public Flux<CustomerRegistrationResult> registerCustomers(@RequestBody Flux<RegisterCustomerCommand> commands) {
+        return commandService.registerBulk(commands);
+    }
+
     @PatchMapping("/{partyId}/name")
     @Operation(summary = "Update customer name", description = "Updates the name of an existing customer")
     public Mono<ResponseEntity<Object>> updateCustomerName(
@@ -210,4 +254,9 @@ public class CustomersController {
         return commandService.unlockProfile(partyId)
                 .thenReturn(ResponseEntity.ok().build());
     }
+
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<Object> deadlineExceeded(DeadlineExceededException ex) {
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).build();
+    }
 }
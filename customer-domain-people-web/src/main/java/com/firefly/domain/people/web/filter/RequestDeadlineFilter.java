@@ -0,0 +1,82 @@
+package com.firefly.domain.people.web.filter;
+
+import com.firefly.domain.people.core.integration.client.Deadline;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Binds a {@link Deadline} to every inbound request.
+ *
+ * The deadline is taken from the {@value Deadline#HEADER} header, in milliseconds and capped at
+ * the configured maximum, or else from the default of the first matching endpoint, or else from
+ * the global default. The deadline travels in the Reactor context of the request into the saga
+ * steps and customer-mgmt calls it triggers. Work queued for later, such as an asynchronous
+ * registration, is not bound by it.
+ */
+@Component
+public class RequestDeadlineFilter implements WebFilter {
+
+    private final RequestDeadlineProperties properties;
+    private final List<EndpointDeadline> endpoints;
+
+    @Autowired
+    public RequestDeadlineFilter(RequestDeadlineProperties properties) {
+        this.properties = properties;
+        this.endpoints = properties.getEndpoints().stream()
+                .map(endpoint -> new EndpointDeadline(
+                        endpoint.getMethod() == null ? null : HttpMethod.valueOf(endpoint.getMethod()),
+                        PathPatternParser.defaultInstance.parse(endpoint.getPath()),
+                        endpoint.getTimeout()))
+                .toList();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!properties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+        Duration timeout = timeoutOf(exchange);
+        if (timeout.isZero() || timeout.isNegative()) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange)
+                .contextWrite(Deadline.after(timeout).asContext());
+    }
+
+    private Duration timeoutOf(ServerWebExchange exchange) {
+        String requested = exchange.getRequest().getHeaders().getFirst(Deadline.HEADER);
+        if (requested != null) {
+            try {
+                long millis = Long.parseLong(requested.trim());
+                if (millis > 0) {
+                    Duration timeout = Duration.ofMillis(millis);
+                    return timeout.compareTo(properties.getMaxTimeout()) > 0 ? properties.getMaxTimeout() : timeout;
+                }
+            } catch (NumberFormatException e) {
+                // an unreadable header falls back to the endpoint default
+            }
+        }
+        HttpMethod method = exchange.getRequest().getMethod();
+        PathContainer path = exchange.getRequest().getPath().pathWithinApplication();
+        for (EndpointDeadline endpoint : endpoints) {
+            if ((endpoint.method() == null || endpoint.method().equals(method)) && endpoint.path().matches(path)) {
+                return endpoint.timeout();
+            }
+        }
+        return properties.getDefaultTimeout();
+    }
+
+    private record EndpointDeadline(HttpMethod method, PathPattern path, Duration timeout) {
+    }
+}
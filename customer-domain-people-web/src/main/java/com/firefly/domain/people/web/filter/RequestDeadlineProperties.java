@@ -0,0 +1,62 @@
+package com.firefly.domain.people.web.filter;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for the deadlines of inbound requests.
+ * Maps the properties defined in application.yaml under request-deadline.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "request-deadline")
+@Getter
+@Setter
+public class RequestDeadlineProperties {
+
+    /**
+     * Whether inbound requests get a deadline.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Deadline of a request matching no endpoint and not carrying the deadline header.
+     */
+    private Duration defaultTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Upper bound of the deadline a caller may ask for with the deadline header.
+     */
+    private Duration maxTimeout = Duration.ofSeconds(60);
+
+    /**
+     * Default deadlines by endpoint; the first matching endpoint applies.
+     */
+    private List<Endpoint> endpoints = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+
+        /**
+         * HTTP method of the endpoint; any method when unset.
+         */
+        private String method;
+
+        /**
+         * Path pattern of the endpoint, as in the request mappings of the controllers.
+         */
+        private String path;
+
+        /**
+         * Default deadline of the endpoint; 0 leaves its requests without a deadline unless the
+         * caller sends one.
+         */
+        private Duration timeout = Duration.ZERO;
+    }
+}